@@ -0,0 +1,107 @@
+package com.example.task_manager.benchmarks;
+
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.dtos.response.user.UserResponseDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class BenchmarkFixtures {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private BenchmarkFixtures() {
+    }
+
+    static TaskRequestDto taskRequest(int i) {
+        Date start = new Date(System.currentTimeMillis() + DAY_MILLIS);
+        return TaskRequestDto.builder()
+                .title("Task " + i)
+                .description("Description of benchmark task number " + i)
+                .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                .status(TaskStatus.values()[i % TaskStatus.values().length])
+                .start(start)
+                .end(new Date(start.getTime() + DAY_MILLIS))
+                .build();
+    }
+
+    static Task task(int i, String teamId, List<String> assignedUsersId) {
+        Date now = new Date();
+        return Task.builder()
+                .id(new ObjectId().toHexString())
+                .title("Task " + i)
+                .description("Description of benchmark task number " + i)
+                .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                .status(TaskStatus.values()[i % TaskStatus.values().length])
+                .type(teamId == null ? TaskType.PERSONAL : TaskType.TEAM)
+                .teamId(teamId)
+                .assignedUsersId(new ArrayList<>(assignedUsersId))
+                .start(now)
+                .end(new Date(now.getTime() + DAY_MILLIS))
+                .createdAt(now)
+                .modifiedAt(now)
+                .build();
+    }
+
+    static User user(int i) {
+        Date now = new Date();
+        return User.builder()
+                .id(new ObjectId().toHexString())
+                .username("user" + i)
+                .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0")
+                .email("user" + i + "@example.com")
+                .phone("+380501234567")
+                .firstname("First")
+                .lastname("Last")
+                .createdAt(now)
+                .modifiedAt(now)
+                .build();
+    }
+
+    static Team team(List<String> membersId) {
+        Date now = new Date();
+        return Team.builder()
+                .id(new ObjectId().toHexString())
+                .name("Benchmark team")
+                .ownerId(membersId.get(0))
+                .membersId(new ArrayList<>(membersId))
+                .createdAt(now)
+                .modifiedAt(now)
+                .build();
+    }
+
+    static List<TaskResponseDto> taskResponses(int size) {
+        List<String> assignees = List.of(new ObjectId().toHexString(), new ObjectId().toHexString());
+        return IntStream.range(0, size)
+                .mapToObj(i -> TaskResponseDto.builder()
+                        .id(new ObjectId().toHexString())
+                        .title("Task " + i)
+                        .description("Description of benchmark task number " + i)
+                        .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                        .status(TaskStatus.values()[i % TaskStatus.values().length])
+                        .assignedUsersId(assignees)
+                        .start(new Date())
+                        .end(new Date())
+                        .build())
+                .toList();
+    }
+
+    static List<UserResponseDto> userResponses(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> UserResponseDto.builder()
+                        .id(new ObjectId().toHexString())
+                        .username("user" + i)
+                        .email("user" + i + "@example.com")
+                        .build())
+                .toList();
+    }
+}
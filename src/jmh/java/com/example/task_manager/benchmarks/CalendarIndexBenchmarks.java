@@ -0,0 +1,75 @@
+package com.example.task_manager.benchmarks;
+
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.utils.IntervalTree;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// a team calendar spread over two years with tasks lasting an hour to two weeks, queried a week at a time
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarIndexBenchmarks {
+    private static final long HOUR_MILLIS = 60L * 60 * 1000;
+    private static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+    private static final long SPAN_MILLIS = 730 * DAY_MILLIS;
+
+    @Param({"100000"})
+    private int size;
+
+    private IntervalTree<TaskCalendarEntryDto> tree;
+    private SplittableRandom random;
+    private long origin;
+
+    @Setup
+    public void setUp() {
+        tree = new IntervalTree<>();
+        random = new SplittableRandom(42);
+        origin = System.currentTimeMillis();
+        for (int i = 0; i < size; i++) {
+            TaskCalendarEntryDto entry = entry(i);
+            tree.put(entry.getId(), entry.getStart().getTime(), entry.getEnd().getTime(), entry);
+        }
+    }
+
+    @Benchmark
+    public List<TaskCalendarEntryDto> weekWindow() {
+        long from = origin + random.nextLong(SPAN_MILLIS);
+        return tree.overlapping(from, from + 7 * DAY_MILLIS);
+    }
+
+    @Benchmark
+    public boolean putAndRemove() {
+        TaskCalendarEntryDto entry = entry(size);
+        tree.put(entry.getId(), entry.getStart().getTime(), entry.getEnd().getTime(), entry);
+        return tree.remove(entry.getId());
+    }
+
+    private TaskCalendarEntryDto entry(int i) {
+        long start = origin + random.nextLong(SPAN_MILLIS);
+        return TaskCalendarEntryDto.builder()
+                .id(new ObjectId().toHexString())
+                .title("Task " + i)
+                .start(new Date(start))
+                .end(new Date(start + HOUR_MILLIS + random.nextLong(14 * DAY_MILLIS)))
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.task_manager.benchmarks;
+
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import com.example.task_manager.dtos.response.user.UserResponseDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.mappers.TaskMapper;
+import com.example.task_manager.mappers.TeamMapper;
+import com.example.task_manager.mappers.UserMapper;
+import com.example.task_manager.utils.TeamCollectionData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmarks {
+    @Param({"10", "1000"})
+    private int teamSize;
+
+    private final UserMapper userMapper = new UserMapper();
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final TeamMapper teamMapper = new TeamMapper(userMapper, taskMapper);
+
+    private TaskRequestDto taskRequest;
+    private Task task;
+    private User user;
+    private Team team;
+    private TeamCollectionData teamData;
+
+    @Setup
+    public void setUp() {
+        List<User> members = IntStream.range(0, teamSize).mapToObj(BenchmarkFixtures::user).toList();
+        team = BenchmarkFixtures.team(members.stream().map(User::getId).toList());
+        taskRequest = BenchmarkFixtures.taskRequest(1);
+        task = BenchmarkFixtures.task(1, team.getId(), team.getMembersId().subList(0, Math.min(3, teamSize)));
+        user = members.get(0);
+        teamData = TeamCollectionData.builder()
+                .members(BenchmarkFixtures.userResponses(teamSize))
+                .tasks(BenchmarkFixtures.taskResponses(teamSize))
+                .build();
+    }
+
+    @Benchmark
+    public Task taskToEntity() {
+        return taskMapper.toEntity(taskRequest);
+    }
+
+    @Benchmark
+    public TaskResponseDto taskToDto() {
+        return taskMapper.toDto(task);
+    }
+
+    @Benchmark
+    public UserResponseDto userToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public TeamResponseDto teamToDto() {
+        return teamMapper.toDto(team, teamData);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.task_manager.benchmarks;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmarks {
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TaskRequestDto validTask;
+    private TaskRequestDto invalidDateRangeTask;
+    private AssignUserRequestDto validAssignment;
+    private AssignUserRequestDto invalidAssignment;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validTask = BenchmarkFixtures.taskRequest(1);
+        invalidDateRangeTask = BenchmarkFixtures.taskRequest(2);
+        invalidDateRangeTask.setEnd(new Date(invalidDateRangeTask.getStart().getTime() - 1));
+        validAssignment = AssignUserRequestDto.builder().userId(new ObjectId().toHexString()).build();
+        invalidAssignment = AssignUserRequestDto.builder().userId("not-a-mongo-id").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequestDto>> validTaskRequest() {
+        return validator.validate(validTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskRequestDto>> invalidDateRangeTaskRequest() {
+        return validator.validate(invalidDateRangeTask);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AssignUserRequestDto>> validMongoIdPattern() {
+        return validator.validate(validAssignment);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AssignUserRequestDto>> invalidMongoIdPattern() {
+        return validator.validate(invalidAssignment);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.task_manager.benchmarks;
+
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.List;
+
+// payload sizes are fixed for a given input, so they are printed here rather than measured by JMH:
+// mvn -Pbenchmarks test-compile exec:exec -Djmh.main=com.example.task_manager.benchmarks.WireFormatPayloadSizes -Djmh.args=10000
+public class WireFormatPayloadSizes {
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        List<TaskResponseDto> tasks = BenchmarkFixtures.taskResponses(size);
+
+        System.out.printf("%-6s %12s %12s%n", "format", "bytes", "gzipped");
+        for (String format : List.of("json", "smile", "cbor")) {
+            ObjectMapper objectMapper = WireFormatBenchmarks.objectMapper(format);
+            byte[] encoded = objectMapper
+                    .writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskResponseDto.class))
+                    .writeValueAsBytes(tasks);
+            System.out.printf("%-6s %12d %12d%n", format, encoded.length, WireFormatBenchmarks.gzippedSize(encoded));
+        }
+    }
+}
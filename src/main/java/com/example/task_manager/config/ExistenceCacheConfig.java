@@ -0,0 +1,41 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.utils.ExistenceCache;
+import com.example.task_manager.utils.TeamMembershipCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class ExistenceCacheConfig {
+    @Value("${task-manager.cache.existence.max-size:10000}")
+    private long maximumSize;
+
+    @Value("${task-manager.cache.existence.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    @Bean
+    public ExistenceCache userExistenceCache(MeterRegistry meterRegistry) {
+        return monitored(new ExistenceCache(maximumSize, expireAfterWrite), meterRegistry, "userExistence");
+    }
+
+    @Bean
+    public ExistenceCache teamExistenceCache(MeterRegistry meterRegistry) {
+        return monitored(new ExistenceCache(maximumSize, expireAfterWrite), meterRegistry, "teamExistence");
+    }
+
+    @Bean
+    public TeamMembershipCache teamMembershipCache(MeterRegistry meterRegistry) {
+        TeamMembershipCache teamMembershipCache = new TeamMembershipCache(maximumSize, expireAfterWrite);
+        teamMembershipCache.monitor(meterRegistry, "teamMembership");
+        return teamMembershipCache;
+    }
+
+    private ExistenceCache monitored(ExistenceCache existenceCache, MeterRegistry meterRegistry, String name) {
+        existenceCache.monitor(meterRegistry, name);
+        return existenceCache;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.monitoring.QueryCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@Profile("!reactive")
+public class FanOutConfig {
+    @Value("${task-manager.fan-out.max-in-flight:16}")
+    private int maxInFlight;
+
+    @Value("${task-manager.fan-out.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Bean
+    public AsyncTaskExecutor fanOutExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxInFlight);
+            executor.setTaskDecorator(QueryCounter::propagate);
+            return executor;
+        }
+
+        // platform threads are pooled; once the queue is full the request thread runs the call itself
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(QueryCounter::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
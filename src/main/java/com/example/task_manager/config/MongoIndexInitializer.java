@@ -0,0 +1,59 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// each stack only has the Mongo client of its own kind, so indexes go through whichever template exists
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "task-manager.mongo.create-indexes", havingValue = "true", matchIfMissing = true)
+public class MongoIndexInitializer {
+    private static final List<Class<?>> INDEXED_ENTITIES = List.of(Task.class, Team.class, User.class, DeletionJob.class);
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    public MongoIndexInitializer(
+            ObjectProvider<MongoTemplate> mongoTemplate,
+            ObjectProvider<ReactiveMongoTemplate> reactiveMongoTemplate,
+            MongoMappingContext mappingContext
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+        this.mappingContext = mappingContext;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        for (Class<?> entity : INDEXED_ENTITIES) {
+            resolver.resolveIndexFor(entity).forEach(index -> log.info("[MongoIndexInitializer] Ensured index {} on collection {}",
+                    createIndex(entity, index), mappingContext.getRequiredPersistentEntity(entity).getCollection()));
+        }
+    }
+
+    private String createIndex(Class<?> entity, IndexDefinition index) {
+        MongoTemplate template = mongoTemplate.getIfAvailable();
+        if (template != null) {
+            return template.indexOps(entity).createIndex(index);
+        }
+        return reactiveMongoTemplate.getObject().indexOps(entity).createIndex(index).block();
+    }
+}
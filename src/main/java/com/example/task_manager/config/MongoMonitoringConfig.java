@@ -0,0 +1,69 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.monitoring.MongoCommandMonitor;
+import com.example.task_manager.monitoring.QueryBudgetFilter;
+import com.example.task_manager.monitoring.QueryBudgetHandlerAdapter;
+import com.example.task_manager.monitoring.QueryBudgetInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.Duration;
+
+@Configuration
+public class MongoMonitoringConfig {
+    @Bean
+    public MongoCommandMonitor mongoCommandMonitor(
+            @Value("${task-manager.mongo.slow-command-threshold:100ms}") Duration slowCommandThreshold,
+            MeterRegistry meterRegistry
+    ) {
+        return new MongoCommandMonitor(slowCommandThreshold, meterRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoCommandMonitorCustomizer(MongoCommandMonitor mongoCommandMonitor) {
+        return builder -> builder.addCommandListener(mongoCommandMonitor);
+    }
+
+    @Configuration
+    @Profile("!reactive")
+    static class QueryBudgetConfig implements WebMvcConfigurer {
+        @Bean
+        public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(
+                @Value("${task-manager.mongo.query-budget.default:0}") int defaultBudget
+        ) {
+            FilterRegistrationBean<QueryBudgetFilter> registration =
+                    new FilterRegistrationBean<>(new QueryBudgetFilter(defaultBudget));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+
+        // enforced around return value handling rather than in a ResponseBodyAdvice, so 204s and other
+        // bodiless responses are checked too
+        @Bean
+        public WebMvcRegistrations queryBudgetRegistrations(
+                @Value("${task-manager.mongo.query-budget.fail-on-exceed:false}") boolean failOnExceed
+        ) {
+            return new WebMvcRegistrations() {
+                @Override
+                public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                    return new QueryBudgetHandlerAdapter(failOnExceed);
+                }
+            };
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new QueryBudgetInterceptor());
+        }
+    }
+}
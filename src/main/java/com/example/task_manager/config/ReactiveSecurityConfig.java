@@ -0,0 +1,80 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.dtos.response.exception.ExceptionResponseDto;
+import com.example.task_manager.security.AuthProperties;
+import com.example.task_manager.security.ReactiveAccessPolicy;
+import com.example.task_manager.security.ReactiveTokenAuthenticationFilter;
+import com.example.task_manager.security.TokenService;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+// tokens are issued by the servlet stack's auth endpoints, so a reactive deployment verifies them
+// with the same task-manager.auth keys
+@Configuration
+@EnableWebFluxSecurity
+@Profile("reactive")
+@EnableConfigurationProperties(AuthProperties.class)
+public class ReactiveSecurityConfig {
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(
+            ServerHttpSecurity http,
+            TokenService tokenService,
+            ReactiveAccessPolicy accessPolicy,
+            ObjectMapper objectMapper
+    ) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(auth -> auth
+                        // the user-scoped routes come first, /teams/user/{id} would otherwise match /teams/{id}/**
+                        .pathMatchers("/api/v1/tasks/user/{id}/**", "/api/v1/teams/user/{id}").access(accessPolicy.self("id"))
+                        .pathMatchers("/api/v1/tasks/team/{teamId}/**", "/api/v1/tasks/{taskId}/team/{teamId}")
+                        .access(accessPolicy.teamMember("teamId"))
+                        .pathMatchers("/api/v1/teams/{teamId}/**").access(accessPolicy.teamMember("teamId"))
+                        .pathMatchers("/api/v1/tasks/{taskId}", "/api/v1/tasks/{taskId}/assign").access(accessPolicy.taskOwner("taskId"))
+                        .pathMatchers("/api/**").authenticated()
+                        .matchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .matchers(EndpointRequest.toAnyEndpoint()).authenticated()
+                        .anyExchange().permitAll())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint((exchange, e) ->
+                                writeError(exchange.getResponse(), objectMapper, HttpStatus.UNAUTHORIZED, "Authentication required"))
+                        .accessDeniedHandler((exchange, e) ->
+                                writeError(exchange.getResponse(), objectMapper, HttpStatus.FORBIDDEN, "Access denied")))
+                .addFilterAt(new ReactiveTokenAuthenticationFilter(tokenService), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    private static Mono<Void> writeError(ServerHttpResponse response, ObjectMapper objectMapper, HttpStatus status, String message) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ExceptionResponseDto.builder()
+                    .message(message)
+                    .dateTime(DateTimeUTC.now())
+                    .build());
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.dtos.response.exception.ExceptionResponseDto;
+import com.example.task_manager.security.AccessPolicy;
+import com.example.task_manager.security.AuthProperties;
+import com.example.task_manager.security.TokenAuthenticationFilter;
+import com.example.task_manager.security.TokenService;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.io.IOException;
+
+@Configuration
+@EnableWebSecurity
+@Profile("!reactive")
+@EnableConfigurationProperties(AuthProperties.class)
+public class SecurityConfig {
+    @Bean
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            TokenService tokenService,
+            AccessPolicy accessPolicy,
+            ObjectMapper objectMapper
+    ) throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login").permitAll()
+                        // the user-scoped routes come first, /teams/user/{id} would otherwise match /teams/{id}/**
+                        .requestMatchers("/api/v1/users/{id}/**", "/api/v1/tasks/user/{id}/**", "/api/v1/teams/user/{id}")
+                        .access(accessPolicy.self("id"))
+                        .requestMatchers("/api/v1/tasks/team/{teamId}/**", "/api/v1/tasks/{taskId}/team/{teamId}")
+                        .access(accessPolicy.teamMember("teamId"))
+                        .requestMatchers("/api/v1/teams/{teamId}/**").access(accessPolicy.teamMember("teamId"))
+                        // search comes before the task ID routes, which would otherwise match it
+                        .requestMatchers("/api/v1/tasks/search").access(accessPolicy.searchScope())
+                        .requestMatchers("/api/v1/tasks/{taskId}", "/api/v1/tasks/{taskId}/assign", "/api/v1/tasks/{taskId}/unassign")
+                        .access(accessPolicy.taskOwner("taskId"))
+                        .requestMatchers("/api/v1/deletion-jobs/{jobId}").access(accessPolicy.deletionJobRequester("jobId"))
+                        .requestMatchers("/api/**").authenticated()
+                        // metrics expose route names, IDs in URIs and load, so only health is public
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).authenticated()
+                        .anyRequest().permitAll())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint((request, response, e) ->
+                                writeError(response, objectMapper, HttpStatus.UNAUTHORIZED, "Authentication required"))
+                        .accessDeniedHandler((request, response, e) ->
+                                writeError(response, objectMapper, HttpStatus.FORBIDDEN, "Access denied")))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class)
+                .build();
+    }
+
+    private static void writeError(HttpServletResponse response, ObjectMapper objectMapper, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ExceptionResponseDto.builder()
+                .message(message)
+                .dateTime(DateTimeUTC.now())
+                .build());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.utils.TaskCalendarCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+public class TaskCalendarCacheConfig {
+    @Value("${task-manager.tasks.calendar.max-calendars:1000}")
+    private long maximumCalendars;
+
+    @Value("${task-manager.tasks.calendar.expire-after-load:10m}")
+    private Duration expireAfterLoad;
+
+    @Bean
+    public TaskCalendarCache taskCalendarCache(MeterRegistry meterRegistry) {
+        TaskCalendarCache taskCalendarCache = new TaskCalendarCache(maximumCalendars, expireAfterLoad);
+        taskCalendarCache.monitor(meterRegistry, "taskCalendar");
+        return taskCalendarCache;
+    }
+}
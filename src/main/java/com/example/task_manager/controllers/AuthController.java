@@ -2,27 +2,38 @@ package com.example.task_manager.controllers;
 
 import com.example.task_manager.dtos.request.user.LoginUserDto;
 import com.example.task_manager.dtos.request.user.RegisterUserDto;
+import com.example.task_manager.dtos.response.user.LoginResponseDto;
 import com.example.task_manager.dtos.response.user.UserResponseDto;
+import com.example.task_manager.security.TokenClaims;
+import com.example.task_manager.security.TokenService;
 import com.example.task_manager.services.IUserService;
+import com.example.task_manager.utils.DateTimeUTC;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Date;
+
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/auth")
 public class AuthController {
     private final IUserService userService;
+    private final TokenService tokenService;
     private final HttpServletRequest request;
 
-    public AuthController(IUserService userService, HttpServletRequest request) {
+    public AuthController(IUserService userService, TokenService tokenService, HttpServletRequest request) {
         this.userService = userService;
+        this.tokenService = tokenService;
         this.request = request;
     }
 
@@ -37,12 +48,29 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<String> loginUser(@Valid @RequestBody LoginUserDto dto) {
+    public ResponseEntity<LoginResponseDto> loginUser(@Valid @RequestBody LoginUserDto dto) {
         log.info("[AuthController][{} {}] START login attempt for username: {}",
                 request.getMethod(), request.getRequestURI(), dto.getUsername());
-        userService.login(dto);
+        UserResponseDto user = userService.login(dto);
+        Date issuedAt = DateTimeUTC.now();
+        LoginResponseDto response = LoginResponseDto.builder()
+                .userId(user.getId())
+                .accessToken(tokenService.issue(user.getId(), issuedAt))
+                .tokenType("Bearer")
+                .expiresAt(tokenService.expiresAt(issuedAt))
+                .build();
         log.info("[AuthController][{} {}] SUCCESS login for username: {} was successful",
                 request.getMethod(), request.getRequestURI(), dto.getUsername());
-        return ResponseEntity.status(HttpStatus.OK).body("Login successful");
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<?> logoutUser(Authentication authentication) {
+        log.info("[AuthController][{} {}] START logout for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), authentication.getName());
+        tokenService.revoke((TokenClaims) authentication.getDetails());
+        log.info("[AuthController][{} {}] SUCCESS logout for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), authentication.getName());
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 }
@@ -0,0 +1,45 @@
+package com.example.task_manager.controllers;
+
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
+import com.example.task_manager.monitoring.QueryBudget;
+import com.example.task_manager.services.IDeletionJobService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/deletion-jobs")
+@Validated
+public class DeletionJobController {
+    private final IDeletionJobService deletionJobService;
+    private final HttpServletRequest request;
+
+    public DeletionJobController(IDeletionJobService deletionJobService, HttpServletRequest request) {
+        this.deletionJobService = deletionJobService;
+        this.request = request;
+    }
+
+    @QueryBudget(1)
+    @GetMapping("/{id}")
+    public ResponseEntity<DeletionJobResponseDto> getDeletionJob(
+            @PathVariable
+            @NotBlank(message = "Deletion job ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id
+    ) {
+        log.info("[DeletionJobController][{} {}] START get deletion job with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        DeletionJobResponseDto job = deletionJobService.getJobById(id);
+        log.info("[DeletionJobController][{} {}] SUCCESS got deletion job with ID: {} in status {}",
+                request.getMethod(), request.getRequestURI(), id, job.getStatus());
+        return ResponseEntity.status(HttpStatus.OK).body(job);
+    }
+}
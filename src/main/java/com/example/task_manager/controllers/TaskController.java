@@ -1,34 +1,70 @@
 package com.example.task_manager.controllers;
 
 import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskPatchRequestDto;
 import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.request.task.TaskSearchRequestDto;
+import com.example.task_manager.dtos.response.task.TaskBatchResponseDto;
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.dtos.response.task.TaskImportResponseDto;
+import com.example.task_manager.dtos.response.task.TaskPageResponseDto;
 import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.enums.TaskFileFormat;
+import com.example.task_manager.monitoring.QueryBudget;
 import com.example.task_manager.services.ITaskService;
+import com.example.task_manager.utils.ETags;
+import com.example.task_manager.utils.TaskExport;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/tasks")
 @Validated
 public class TaskController {
     private final ITaskService taskService;
     private final HttpServletRequest request;
+    private final Duration exportTimeout;
 
-    public TaskController(ITaskService taskService, HttpServletRequest request) {
+    public TaskController(
+            ITaskService taskService,
+            HttpServletRequest request,
+            @Value("${task-manager.tasks.export.timeout:30m}") Duration exportTimeout
+    ) {
         this.taskService = taskService;
         this.request = request;
+        this.exportTimeout = exportTimeout;
     }
 
+    @QueryBudget(2)
     @GetMapping("/user/{id}")
     public ResponseEntity<List<TaskResponseDto>> getTasksByUserId(
             @PathVariable
@@ -44,6 +80,161 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.OK).body(tasks);
     }
 
+    @QueryBudget(3)
+    @GetMapping("/team/{id}")
+    public ResponseEntity<List<TaskResponseDto>> getTasksByTeamId(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            WebRequest webRequest
+    ) {
+        log.info("[TaskController][{} {}] START get tasks for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        String eTag = ETags.forRepresentation(taskService.getTasksETagByTeamId(id), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("[TaskController][{} {}] SUCCESS tasks not modified for team with ID: {}",
+                    request.getMethod(), request.getRequestURI(), id);
+            return null;
+        }
+        List<TaskResponseDto> tasks = taskService.getTasksByTeamId(id);
+        log.info("[TaskController][{} {}] SUCCESS found {} tasks for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), tasks.size(), id);
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(tasks);
+    }
+
+    @GetMapping(value = "/team/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToTeamEvents(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id
+    ) {
+        log.info("[TaskController][{} {}] START subscribe to task events for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        SseEmitter emitter = taskService.subscribeToTeamEvents(id);
+        log.info("[TaskController][{} {}] SUCCESS subscribed to task events for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        return emitter;
+    }
+
+    @QueryBudget(2)
+    @GetMapping("/user/{id}/page")
+    public ResponseEntity<TaskPageResponseDto> getTasksPageByUserId(
+            @PathVariable
+            @NotBlank(message = "User ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 500, message = "Limit must be at most 500")
+            int limit
+    ) {
+        log.info("[TaskController][{} {}] START get page of tasks for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        TaskPageResponseDto page = taskService.getTasksPageByUserId(id, cursor, limit);
+        log.info("[TaskController][{} {}] SUCCESS found {} tasks on page for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), page.getTasks().size(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
+    @QueryBudget(2)
+    @GetMapping("/team/{id}/page")
+    public ResponseEntity<TaskPageResponseDto> getTasksPageByTeamId(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 500, message = "Limit must be at most 500")
+            int limit
+    ) {
+        log.info("[TaskController][{} {}] START get page of tasks for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        TaskPageResponseDto page = taskService.getTasksPageByTeamId(id, cursor, limit);
+        log.info("[TaskController][{} {}] SUCCESS found {} tasks on page for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), page.getTasks().size(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
+    @QueryBudget(3)
+    @GetMapping("/search")
+    public ResponseEntity<TaskPageResponseDto> searchTasks(@Valid TaskSearchRequestDto dto, Authentication authentication) {
+        log.info("[TaskController][{} {}] START search tasks for team with ID: {} and assignee with ID: {}",
+                request.getMethod(), request.getRequestURI(), dto.getTeamId(), dto.getAssigneeId());
+        TaskPageResponseDto page = taskService.searchTasks(dto, authentication.getName());
+        log.info("[TaskController][{} {}] SUCCESS found {} tasks on search page",
+                request.getMethod(), request.getRequestURI(), page.getTasks().size());
+        return ResponseEntity.status(HttpStatus.OK).body(page);
+    }
+
+    @QueryBudget(2)
+    @GetMapping("/user/{id}/calendar")
+    public ResponseEntity<List<TaskCalendarEntryDto>> getCalendarByUserId(
+            @PathVariable
+            @NotBlank(message = "User ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("[TaskController][{} {}] START get calendar from {} to {} for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), from, to, id);
+        List<TaskCalendarEntryDto> entries = taskService.getCalendarByUserId(id, from, to);
+        log.info("[TaskController][{} {}] SUCCESS found {} calendar entries for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), entries.size(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(entries);
+    }
+
+    @QueryBudget(2)
+    @GetMapping("/team/{id}/calendar")
+    public ResponseEntity<List<TaskCalendarEntryDto>> getCalendarByTeamId(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("[TaskController][{} {}] START get calendar from {} to {} for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), from, to, id);
+        List<TaskCalendarEntryDto> entries = taskService.getCalendarByTeamId(id, from, to);
+        log.info("[TaskController][{} {}] SUCCESS found {} calendar entries for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), entries.size(), id);
+        return ResponseEntity.status(HttpStatus.OK).body(entries);
+    }
+
+    @GetMapping("/user/{id}/export")
+    public WebAsyncTask<Void> exportTasksByUserId(
+            @PathVariable
+            @NotBlank(message = "User ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            HttpServletResponse response
+    ) {
+        log.info("[TaskController][{} {}] START export tasks for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        return exportResponse(taskService.exportTasksByUserId(id, format), "tasks-user-" + id, response);
+    }
+
+    @GetMapping("/team/{id}/export")
+    public WebAsyncTask<Void> exportTasksByTeamId(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestParam(defaultValue = "NDJSON") TaskFileFormat format,
+            HttpServletResponse response
+    ) {
+        log.info("[TaskController][{} {}] START export tasks for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        return exportResponse(taskService.exportTasksByTeamId(id, format), "tasks-team-" + id, response);
+    }
+
     @PostMapping("/user/{id}")
     public ResponseEntity<TaskResponseDto> createTaskForUser(
             @PathVariable
@@ -76,6 +267,76 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    @PostMapping("/user/{id}/batch")
+    public ResponseEntity<TaskBatchResponseDto> createTasksForUser(
+            @PathVariable
+            @NotBlank(message = "User ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestBody
+            @NotEmpty(message = "At least one task is required")
+            @Size(max = 1000, message = "At most 1000 tasks can be created at once")
+            List<TaskRequestDto> dtos
+    ) {
+        log.info("[TaskController][{} {}] START create {} personal tasks for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), dtos.size(), id);
+        TaskBatchResponseDto response = taskService.createUserTasks(id, dtos);
+        log.info("[TaskController][{} {}] SUCCESS created {} personal tasks for user with ID: {}, rejected {}",
+                request.getMethod(), request.getRequestURI(), response.getCreated().size(), id, response.getErrors().size());
+        return ResponseEntity.status(batchStatus(response)).body(response);
+    }
+
+    @PostMapping("/team/{id}/batch")
+    public ResponseEntity<TaskBatchResponseDto> createTasksForTeam(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @RequestBody
+            @NotEmpty(message = "At least one task is required")
+            @Size(max = 1000, message = "At most 1000 tasks can be created at once")
+            List<TaskRequestDto> dtos
+    ) {
+        log.info("[TaskController][{} {}] START create {} tasks for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), dtos.size(), id);
+        TaskBatchResponseDto response = taskService.createTeamTasks(id, dtos);
+        log.info("[TaskController][{} {}] SUCCESS created {} tasks for team with ID: {}, rejected {}",
+                request.getMethod(), request.getRequestURI(), response.getCreated().size(), id, response.getErrors().size());
+        return ResponseEntity.status(batchStatus(response)).body(response);
+    }
+
+    @PostMapping(value = "/user/{id}/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<TaskImportResponseDto> importTasksForUser(
+            @PathVariable
+            @NotBlank(message = "User ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            InputStream body
+    ) {
+        log.info("[TaskController][{} {}] START import personal tasks for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        TaskImportResponseDto response = taskService.importUserTasks(id, importFormat(), body);
+        log.info("[TaskController][{} {}] SUCCESS imported {} personal tasks for user with ID: {}, rejected {}",
+                request.getMethod(), request.getRequestURI(), response.getInserted(), id, response.getRejected());
+        return ResponseEntity.status(importStatus(response)).body(response);
+    }
+
+    @PostMapping(value = "/team/{id}/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<TaskImportResponseDto> importTasksForTeam(
+            @PathVariable
+            @NotBlank(message = "Team ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            InputStream body
+    ) {
+        log.info("[TaskController][{} {}] START import team tasks for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        TaskImportResponseDto response = taskService.importTeamTasks(id, importFormat(), body);
+        log.info("[TaskController][{} {}] SUCCESS imported {} team tasks for team with ID: {}, rejected {}",
+                request.getMethod(), request.getRequestURI(), response.getInserted(), id, response.getRejected());
+        return ResponseEntity.status(importStatus(response)).body(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDto> updateTask(
             @PathVariable
@@ -92,6 +353,22 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.OK).body(updatedTask);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponseDto> patchTask(
+            @PathVariable
+            @NotBlank(message = "Task ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String id,
+            @Valid @RequestBody TaskPatchRequestDto dto
+    ) {
+        log.info("[TaskController][{} {}] START patch task with ID: {}",
+                request.getMethod(), request.getRequestURI(), id);
+        TaskResponseDto patchedTask = taskService.patch(id, dto);
+        log.info("[TaskController][{} {}] SUCCESS patched task with ID: {}",
+                request.getMethod(), request.getRequestURI(), patchedTask.getId());
+        return ResponseEntity.status(HttpStatus.OK).body(patchedTask);
+    }
+
     @PatchMapping("/{taskId}/assign")
     public ResponseEntity<?> assignUserById(
             @PathVariable
@@ -108,6 +385,22 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 
+    @PatchMapping("/{taskId}/unassign")
+    public ResponseEntity<?> unassignUserById(
+            @PathVariable
+            @NotBlank(message = "Task ID is required")
+            @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+            String taskId,
+            @Valid @RequestBody AssignUserRequestDto dto
+    ) {
+        log.info("[TaskController][{} {}] START unassign user with ID: {} from task with ID: {}",
+                request.getMethod(), request.getRequestURI(), dto.getUserId(), taskId);
+        taskService.unassignUserFromTaskById(taskId, dto);
+        log.info("[TaskController][{} {}] SUCCESS unassigned user with ID: {} from task with ID: {}",
+                request.getMethod(), request.getRequestURI(), dto.getUserId(), taskId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deletePersonalTask(
             @PathVariable
@@ -141,4 +434,37 @@ public class TaskController {
                 request.getMethod(), request.getRequestURI(), taskId, teamId);
         return ResponseEntity.status(HttpStatus.OK).build();
     }
+
+    private HttpStatus batchStatus(TaskBatchResponseDto response) {
+        return response.getCreated().isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+    }
+
+    private HttpStatus importStatus(TaskImportResponseDto response) {
+        return response.getInserted() == 0 ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+    }
+
+    private TaskFileFormat importFormat() {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        return MediaType.parseMediaType(TaskFileFormat.CSV.getMediaType()).includes(contentType)
+                ? TaskFileFormat.CSV
+                : TaskFileFormat.NDJSON;
+    }
+
+    // only exports get the long timeout, every other async request keeps the container default
+    private WebAsyncTask<Void> exportResponse(TaskExport export, String fileName, HttpServletResponse response) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(export.getFormat().getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName + "." + export.getFormat().getExtension())
+                .build()
+                .toString());
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            long exported = export.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            log.info("[TaskController][{} {}] SUCCESS exported {} tasks", method, uri, exported);
+            return null;
+        });
+    }
 }
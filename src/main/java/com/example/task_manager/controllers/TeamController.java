@@ -2,22 +2,32 @@ package com.example.task_manager.controllers;
 
 import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
 import com.example.task_manager.dtos.request.team.TeamRequestDto;
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
 import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import com.example.task_manager.monitoring.QueryBudget;
 import com.example.task_manager.services.ITeamService;
+import com.example.task_manager.utils.ETags;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.util.List;
 
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/teams")
 @Validated
 public class TeamController {
@@ -29,25 +39,36 @@ public class TeamController {
         this.request = request;
     }
 
+    @QueryBudget(3)
     @GetMapping("/user/{id}")
     public ResponseEntity<List<TeamResponseDto>> getTeamsByUserId(
             @PathVariable
             @NotBlank(message = "User ID is required")
             @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
-            String id
+            String id,
+            WebRequest webRequest
     ) {
         log.info("[TeamController][{} {}] START get teams for user with ID: {}",
                 request.getMethod(), request.getRequestURI(), id);
+        String eTag = ETags.forRepresentation(teamService.getTeamsETagByUserId(id), webRequest.getHeader(HttpHeaders.ACCEPT));
+        if (webRequest.checkNotModified(eTag)) {
+            log.info("[TeamController][{} {}] SUCCESS teams not modified for user with ID: {}",
+                    request.getMethod(), request.getRequestURI(), id);
+            return null;
+        }
         List<TeamResponseDto> teams = teamService.getTeamsByUserId(id);
         log.info("[TeamController][{} {}] SUCCESS got {} teams for user with ID: {}",
                 request.getMethod(), request.getRequestURI(), teams.size(), id);
-        return ResponseEntity.status(HttpStatus.OK).body(teams);
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(teams);
     }
 
     @PostMapping
-    public ResponseEntity<TeamResponseDto> createTeam(@Valid @RequestBody TeamRequestDto dto) {
+    public ResponseEntity<TeamResponseDto> createTeam(@Valid @RequestBody TeamRequestDto dto, Authentication authentication) {
         log.info("[TeamController][{} {}] START create new team with name: {}",
                 request.getMethod(), request.getRequestURI(), dto.getName());
+        if (!authentication.getName().equals(dto.getOwnerId())) {
+            throw new AccessDeniedException("Teams can only be created for the authenticated user");
+        }
         TeamResponseDto created = teamService.create(dto);
         log.info("[TeamController][{} {}] SUCCESS created team with ID: {}",
                 request.getMethod(), request.getRequestURI(), created.getId());
@@ -87,17 +108,20 @@ public class TeamController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTeam(
+    public ResponseEntity<DeletionJobResponseDto> deleteTeam(
             @PathVariable
             @NotBlank(message = "Team ID is required")
             @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
-            String id
+            String id,
+            Authentication authentication
     ) {
         log.info("[TeamController][{} {}] START delete team with ID: {}",
                 request.getMethod(), request.getRequestURI(), id);
-        teamService.delete(id);
-        log.info("[TeamController][{} {}] SUCCESS deleted Team with ID: {}",
-                request.getMethod(), request.getRequestURI(), id);
-        return ResponseEntity.status(HttpStatus.OK).build();
+        DeletionJobResponseDto job = teamService.delete(id, authentication.getName());
+        log.info("[TeamController][{} {}] SUCCESS scheduled deletion job with ID: {} for team with ID: {}",
+                request.getMethod(), request.getRequestURI(), job.getId(), id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/deletion-jobs/" + job.getId()))
+                .body(job);
     }
 }
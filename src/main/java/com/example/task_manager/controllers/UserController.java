@@ -2,20 +2,26 @@ package com.example.task_manager.controllers;
 
 import com.example.task_manager.dtos.request.user.UpdateUserPasswordDto;
 import com.example.task_manager.dtos.request.user.UserRequestDto;
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
 import com.example.task_manager.dtos.response.user.UserResponseDto;
+import com.example.task_manager.monitoring.QueryBudget;
 import com.example.task_manager.services.IUserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @Slf4j
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/users")
 @Validated
 public class UserController {
@@ -59,8 +65,9 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @QueryBudget(5)
     @DeleteMapping("/{id}")
-    public ResponseEntity<String> deleteUser(
+    public ResponseEntity<DeletionJobResponseDto> deleteUser(
             @PathVariable
             @NotBlank(message = "User ID is required")
             @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
@@ -68,9 +75,11 @@ public class UserController {
     ) {
         log.info("[UserController][{} {}] START delete user with ID: {}",
                 request.getMethod(), request.getRequestURI(), id);
-        userService.delete(id);
-        log.info("[UserController][{} {}] SUCCESS deleted user with ID: {}",
-                request.getMethod(), request.getRequestURI(), id);
-        return ResponseEntity.status(HttpStatus.OK).build();
+        DeletionJobResponseDto job = userService.delete(id);
+        log.info("[UserController][{} {}] SUCCESS scheduled deletion job with ID: {} for user with ID: {}",
+                request.getMethod(), request.getRequestURI(), job.getId(), id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/deletion-jobs/" + job.getId()))
+                .body(job);
     }
 }
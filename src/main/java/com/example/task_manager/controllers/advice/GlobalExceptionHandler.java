@@ -6,6 +6,8 @@ import com.example.task_manager.utils.DateTimeUTC;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -23,6 +25,7 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @Slf4j
 @ControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceAlreadyExistsException.class)
     public ResponseEntity<?> handleResourceAlreadyExistsException(ResourceAlreadyExistsException e) {
@@ -30,12 +33,48 @@ public class GlobalExceptionHandler {
         return createResponse(HttpStatus.CONFLICT, e);
     }
 
+    @ExceptionHandler(DuplicateKeyException.class)
+    public ResponseEntity<?> handleDuplicateKeyException(DuplicateKeyException e) {
+        log.error("[ExceptionHandler] Duplicate key: {}", e.getMessage());
+        return createGeneralResponse(HttpStatus.CONFLICT, "Resource already exists");
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<?> handleResourceNotFoundException(ResourceNotFoundException e) {
         log.error("[ExceptionHandler] Resource is not found: {}", e.getMessage());
         return createResponse(HttpStatus.NOT_FOUND, e);
     }
 
+    @ExceptionHandler(InvalidPageCursorException.class)
+    public ResponseEntity<?> handleInvalidPageCursorException(InvalidPageCursorException e) {
+        log.error("[ExceptionHandler] Invalid page cursor: {}", e.getMessage());
+        return createResponse(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<?> handleInvalidDateRangeException(InvalidDateRangeException e) {
+        log.error("[ExceptionHandler] Invalid date range: {}", e.getMessage());
+        return createResponse(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<?> handleInvalidImportFileException(InvalidImportFileException e) {
+        log.error("[ExceptionHandler] Invalid import file: {}", e.getMessage());
+        return createResponse(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<?> handleInvalidCredentialsException(InvalidCredentialsException e) {
+        log.error("[ExceptionHandler] Invalid credentials: {}", e.getMessage());
+        return createResponse(HttpStatus.UNAUTHORIZED, e);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        log.error("[ExceptionHandler] Password hashing is busy: {}", e.getMessage());
+        return createResponse(HttpStatus.SERVICE_UNAVAILABLE, e);
+    }
+
     @ExceptionHandler(UserIsNotTeamMemberException.class)
     public ResponseEntity<?> handleUserIsNotTeamMemberException(UserIsNotTeamMemberException e) {
         log.error("[ExceptionHandler] User is not a member of team: {}", e.getMessage());
@@ -0,0 +1,100 @@
+package com.example.task_manager.controllers.advice;
+
+import com.example.task_manager.dtos.response.exception.ExceptionResponseDto;
+import com.example.task_manager.exceptions.*;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Order(-2)
+@Profile("reactive")
+public class ReactiveExceptionHandler implements WebExceptionHandler {
+    private final ObjectMapper objectMapper;
+
+    public ReactiveExceptionHandler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable e) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(e);
+        }
+
+        ExceptionResponseDto body;
+        HttpStatusCode status;
+        if (e instanceof GeneralException generalException) {
+            status = statusOf(generalException);
+            body = ExceptionResponseDto.builder()
+                    .message(generalException.getMessage())
+                    .dateTime(generalException.getDateTime())
+                    .build();
+        } else if (e instanceof DuplicateKeyException) {
+            status = HttpStatus.CONFLICT;
+            body = generalBody("Resource already exists");
+        } else if (e instanceof ResponseStatusException statusException) {
+            status = statusException.getStatusCode();
+            body = generalBody(statusException.getReason() != null ? statusException.getReason() : "Request failed");
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            body = generalBody("Internal server error");
+        }
+        log.error("[ReactiveExceptionHandler] {} {}: {}", status.value(), e.getClass().getSimpleName(), e.getMessage());
+
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException jsonException) {
+            return Mono.error(jsonException);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    }
+
+    private HttpStatus statusOf(GeneralException e) {
+        if (e instanceof ResourceAlreadyExistsException || e instanceof ResourceDeletionNotAllowedException) {
+            return HttpStatus.CONFLICT;
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+        if (e instanceof InvalidCredentialsException) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        if (e instanceof PasswordHashingBusyException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (e instanceof UserIsNotTeamMemberException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        if (e instanceof InvalidPageCursorException || e instanceof InvalidDateRangeException
+                || e instanceof InvalidImportFileException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private ExceptionResponseDto generalBody(String message) {
+        return ExceptionResponseDto.builder()
+                .message(message)
+                .dateTime(DateTimeUTC.now())
+                .build();
+    }
+}
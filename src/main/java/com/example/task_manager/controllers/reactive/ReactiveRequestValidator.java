@@ -0,0 +1,42 @@
+package com.example.task_manager.controllers.reactive;
+
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class ReactiveRequestValidator {
+    private static final String MONGO_ID_REGEX = "^[a-fA-F0-9]{24}$";
+
+    private final Validator validator;
+
+    public ReactiveRequestValidator(Validator validator) {
+        this.validator = validator;
+    }
+
+    public String pathId(ServerRequest request, String name) {
+        String id = request.pathVariable(name);
+        if (!id.matches(MONGO_ID_REGEX)) {
+            log.error("[ReactiveRequestValidator] Invalid path variable {}: {}", name, id);
+            throw new ServerWebInputException("Validation failed due to invalid request param");
+        }
+        return id;
+    }
+
+    public <T> Mono<T> body(ServerRequest request, Class<T> type) {
+        return request.bodyToMono(type)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Request body is missing")))
+                .doOnNext(body -> {
+                    if (!validator.validate(body).isEmpty()) {
+                        log.error("[ReactiveRequestValidator] Invalid request body for {}", type.getSimpleName());
+                        throw new ServerWebInputException("Validation failed due to invalid request body");
+                    }
+                });
+    }
+}
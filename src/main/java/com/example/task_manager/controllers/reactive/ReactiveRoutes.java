@@ -0,0 +1,42 @@
+package com.example.task_manager.controllers.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// the reactive stack serves task and team CRUD, assignment and membership only; unassigning, paging,
+// search, export, calendars, event streams, auth, users and deletion jobs are served by the servlet stack
+@Configuration
+@Profile("reactive")
+public class ReactiveRoutes {
+    @Bean
+    public RouterFunction<ServerResponse> taskRoutes(TaskHandler handler) {
+        return route()
+                .path("/api/v1/tasks", builder -> builder
+                        .GET("/user/{id}", handler::getTasksByUserId)
+                        .GET("/team/{id}", handler::getTasksByTeamId)
+                        .POST("/user/{id}", handler::createTaskForUser)
+                        .POST("/team/{id}", handler::createTaskForTeam)
+                        .PUT("/{id}", handler::updateTask)
+                        .PATCH("/{taskId}/assign", handler::assignUserById)
+                        .DELETE("/{id}", handler::deletePersonalTask)
+                        .DELETE("/{taskId}/team/{teamId}", handler::deleteTeamTask))
+                .build();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> teamRoutes(TeamHandler handler) {
+        return route()
+                .path("/api/v1/teams", builder -> builder
+                        .GET("/user/{id}", handler::getTeamsByUserId)
+                        .POST("", handler::createTeam)
+                        .PUT("/{id}", handler::updateTeam)
+                        .PATCH("/{teamId}/add-member", handler::addMemberToTeam)
+                        .DELETE("/{id}", handler::deleteTeam))
+                .build();
+    }
+}
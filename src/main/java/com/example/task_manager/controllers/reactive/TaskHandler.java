@@ -0,0 +1,109 @@
+package com.example.task_manager.controllers.reactive;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.services.IReactiveTaskService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class TaskHandler {
+    private final IReactiveTaskService taskService;
+    private final ReactiveRequestValidator validator;
+
+    public TaskHandler(IReactiveTaskService taskService, ReactiveRequestValidator validator) {
+        this.taskService = taskService;
+        this.validator = validator;
+    }
+
+    public Mono<ServerResponse> getTasksByUserId(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TaskHandler][{} {}] START stream tasks for user with ID: {}", request.method(), request.path(), id);
+        return streamTasks(taskService.getTasksByUserId(id));
+    }
+
+    public Mono<ServerResponse> getTasksByTeamId(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TaskHandler][{} {}] START stream tasks for team with ID: {}", request.method(), request.path(), id);
+        return streamTasks(taskService.getTasksByTeamId(id));
+    }
+
+    public Mono<ServerResponse> createTaskForUser(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TaskHandler][{} {}] START create task for user with ID: {}", request.method(), request.path(), id);
+        return validator.body(request, TaskRequestDto.class)
+                .flatMap(dto -> taskService.createUserTask(id, dto))
+                .flatMap(created -> {
+                    log.info("[TaskHandler][{} {}] SUCCESS created task with ID: {}", request.method(), request.path(), created.getId());
+                    return ServerResponse.status(HttpStatus.CREATED).bodyValue(created);
+                });
+    }
+
+    public Mono<ServerResponse> createTaskForTeam(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TaskHandler][{} {}] START create task for team with ID: {}", request.method(), request.path(), id);
+        return validator.body(request, TaskRequestDto.class)
+                .flatMap(dto -> taskService.createTeamTask(id, dto))
+                .flatMap(created -> {
+                    log.info("[TaskHandler][{} {}] SUCCESS created task with ID: {}", request.method(), request.path(), created.getId());
+                    return ServerResponse.status(HttpStatus.CREATED).bodyValue(created);
+                });
+    }
+
+    public Mono<ServerResponse> updateTask(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TaskHandler][{} {}] START update task with ID: {}", request.method(), request.path(), id);
+        return validator.body(request, TaskRequestDto.class)
+                .flatMap(dto -> taskService.update(id, dto))
+                .flatMap(updated -> {
+                    log.info("[TaskHandler][{} {}] SUCCESS updated task with ID: {}", request.method(), request.path(), id);
+                    return ServerResponse.ok().bodyValue(updated);
+                });
+    }
+
+    public Mono<ServerResponse> assignUserById(ServerRequest request) {
+        String taskId = validator.pathId(request, "taskId");
+        log.info("[TaskHandler][{} {}] START assign user to task with ID: {}", request.method(), request.path(), taskId);
+        return validator.body(request, AssignUserRequestDto.class)
+                .flatMap(dto -> taskService.assignUserById(taskId, dto)
+                        .doOnSuccess(ignored -> log.info("[TaskHandler][{} {}] SUCCESS assigned user with ID: {} to task with ID: {}",
+                                request.method(), request.path(), dto.getUserId(), taskId)))
+                .then(ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> deletePersonalTask(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TaskHandler][{} {}] START delete personal task with ID: {}", request.method(), request.path(), id);
+        return taskService.deletePersonalTask(id)
+                .doOnSuccess(ignored -> log.info("[TaskHandler][{} {}] SUCCESS deleted personal task with ID: {}",
+                        request.method(), request.path(), id))
+                .then(ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> deleteTeamTask(ServerRequest request) {
+        String taskId = validator.pathId(request, "taskId");
+        String teamId = validator.pathId(request, "teamId");
+        log.info("[TaskHandler][{} {}] START delete task with ID: {} from team with ID: {}",
+                request.method(), request.path(), taskId, teamId);
+        return taskService.deleteTeamTask(teamId, taskId)
+                .doOnSuccess(ignored -> log.info("[TaskHandler][{} {}] SUCCESS deleted task with ID: {} from team with ID: {}",
+                        request.method(), request.path(), taskId, teamId))
+                .then(ServerResponse.noContent().build());
+    }
+
+    private Mono<ServerResponse> streamTasks(Flux<TaskResponseDto> tasks) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(tasks, TaskResponseDto.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.task_manager.controllers.reactive;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.team.TeamRequestDto;
+import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import com.example.task_manager.services.IReactiveTeamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+@Profile("reactive")
+public class TeamHandler {
+    private final IReactiveTeamService teamService;
+    private final ReactiveRequestValidator validator;
+
+    public TeamHandler(IReactiveTeamService teamService, ReactiveRequestValidator validator) {
+        this.teamService = teamService;
+        this.validator = validator;
+    }
+
+    public Mono<ServerResponse> getTeamsByUserId(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TeamHandler][{} {}] START get teams for user with ID: {}", request.method(), request.path(), id);
+        return teamService.getTeamsByUserId(id)
+                .collectList()
+                .flatMap(teams -> {
+                    log.info("[TeamHandler][{} {}] SUCCESS got {} teams for user with ID: {}",
+                            request.method(), request.path(), teams.size(), id);
+                    return ServerResponse.ok().bodyValue(teams);
+                });
+    }
+
+    public Mono<ServerResponse> createTeam(ServerRequest request) {
+        log.info("[TeamHandler][{} {}] START create new team", request.method(), request.path());
+        return validator.body(request, TeamRequestDto.class)
+                .flatMap(teamService::create)
+                .flatMap(created -> {
+                    log.info("[TeamHandler][{} {}] SUCCESS created team with ID: {}", request.method(), request.path(), created.getId());
+                    return ServerResponse.status(HttpStatus.CREATED).bodyValue(created);
+                });
+    }
+
+    public Mono<ServerResponse> updateTeam(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TeamHandler][{} {}] START update team with ID: {}", request.method(), request.path(), id);
+        return validator.body(request, TeamRequestDto.class)
+                .flatMap(dto -> teamService.update(id, dto))
+                .flatMap(updated -> {
+                    log.info("[TeamHandler][{} {}] SUCCESS updated team with ID: {}", request.method(), request.path(), id);
+                    return ServerResponse.ok().bodyValue(updated);
+                });
+    }
+
+    public Mono<ServerResponse> addMemberToTeam(ServerRequest request) {
+        String teamId = validator.pathId(request, "teamId");
+        log.info("[TeamHandler][{} {}] START add member to team with ID: {}", request.method(), request.path(), teamId);
+        return validator.body(request, AssignUserRequestDto.class)
+                .flatMap(dto -> teamService.addMember(teamId, dto)
+                        .doOnSuccess(ignored -> log.info("[TeamHandler][{} {}] SUCCESS added user with ID: {} to team with ID: {}",
+                                request.method(), request.path(), dto.getUserId(), teamId)))
+                .then(ServerResponse.noContent().build());
+    }
+
+    public Mono<ServerResponse> deleteTeam(ServerRequest request) {
+        String id = validator.pathId(request, "id");
+        log.info("[TeamHandler][{} {}] START delete team with ID: {}", request.method(), request.path(), id);
+        return teamService.delete(id)
+                .doOnSuccess(ignored -> log.info("[TeamHandler][{} {}] SUCCESS deleted team with ID: {}",
+                        request.method(), request.path(), id))
+                .then(ServerResponse.ok().build());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.task_manager.dtos.request.task;
+
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPatchRequestDto {
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title must not be blank")
+    @Size(max = 100, message = "Title must be at most 100 characters")
+    private String title;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Description must not be blank")
+    @Size(max = 500, message = "Description must be at most 500 characters")
+    private String description;
+
+    private TaskPriority priority;
+
+    private TaskStatus status;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "UTC")
+    private Date start;
+
+    @FutureOrPresent(message = "End date must be in the present or future")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss", timezone = "UTC")
+    private Date end;
+
+    @AssertTrue(message = "End date must be after or equal to start date")
+    public boolean isValidDateRange() {
+        return start == null || end == null || !end.before(start);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.task_manager.dtos.request.task;
+
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchRequestDto {
+    @Size(max = 200, message = "Search text must be at most 200 characters")
+    private String q;
+
+    @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+    private String teamId;
+
+    @Pattern(regexp = "^[a-fA-F0-9]{24}$", message = "Invalid MongoDB ID format")
+    private String assigneeId;
+
+    private TaskType type;
+    private List<TaskStatus> status;
+    private List<TaskPriority> priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime startFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime startTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime endFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime endTo;
+
+    @Builder.Default
+    private TaskSortField sort = TaskSortField.ID;
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.ASC;
+
+    private String cursor;
+
+    @Builder.Default
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 500, message = "Limit must be at most 500")
+    private int limit = 50;
+
+    @AssertTrue(message = "Either teamId or assigneeId is required")
+    public boolean isScoped() {
+        return teamId != null || assigneeId != null;
+    }
+
+    @AssertTrue(message = "Range start must be before or equal to range end")
+    public boolean isValidDateRanges() {
+        return (startFrom == null || startTo == null || !startTo.isBefore(startFrom))
+                && (endFrom == null || endTo == null || !endTo.isBefore(endFrom));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.task_manager.dtos.response.deletion;
+
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.enums.DeletionResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletionJobResponseDto {
+    private String id;
+    private DeletionResourceType resourceType;
+    private String resourceId;
+    private DeletionJobStatus status;
+    private DeletionJobStep step;
+    private long processed;
+    private int attempts;
+    private String error;
+    private Date createdAt;
+    private Date modifiedAt;
+    private Date completedAt;
+}
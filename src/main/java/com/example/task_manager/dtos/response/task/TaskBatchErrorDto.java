@@ -0,0 +1,17 @@
+package com.example.task_manager.dtos.response.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchErrorDto {
+    private int index;
+    private List<String> messages;
+}
@@ -0,0 +1,23 @@
+package com.example.task_manager.dtos.response.task;
+
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCalendarEntryDto {
+    private String id;
+    private String title;
+    private TaskPriority priority;
+    private TaskStatus status;
+    private Date start;
+    private Date end;
+}
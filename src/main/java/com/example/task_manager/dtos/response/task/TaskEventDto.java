@@ -0,0 +1,23 @@
+package com.example.task_manager.dtos.response.task;
+
+import com.example.task_manager.enums.TaskEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDto {
+    private TaskEventType type;
+    private String teamId;
+    private String taskId;
+    private String userId;
+    private Long count;
+    private TaskResponseDto task;
+    private Date occurredAt;
+}
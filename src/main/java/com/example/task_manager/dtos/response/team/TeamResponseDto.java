@@ -20,4 +20,5 @@ public class TeamResponseDto {
     private String ownerId;
     private List<UserResponseDto> members;
     private List<TaskResponseDto> tasks;
+    private String tasksNextCursor;
 }
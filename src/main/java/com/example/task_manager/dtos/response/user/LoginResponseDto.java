@@ -0,0 +1,19 @@
+package com.example.task_manager.dtos.response.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginResponseDto {
+    private String userId;
+    private String accessToken;
+    private String tokenType;
+    private Date expiresAt;
+}
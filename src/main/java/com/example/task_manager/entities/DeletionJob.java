@@ -0,0 +1,38 @@
+package com.example.task_manager.entities;
+
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.enums.DeletionResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "DeletionJob")
+@CompoundIndex(name = "status_leaseUntil", def = "{'status': 1, 'leaseUntil': 1}")
+public class DeletionJob {
+    @Id
+    private String id;
+    private DeletionResourceType resourceType;
+    private String resourceId;
+    // the user who asked for the deletion and may follow the job
+    private String requestedBy;
+    private DeletionJobStatus status;
+    private DeletionJobStep step;
+    private long processed;
+    private int attempts;
+    private String error;
+    private Date leaseUntil;
+    private Date createdAt;
+    private Date modifiedAt;
+    private Date completedAt;
+}
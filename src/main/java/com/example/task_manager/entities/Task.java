@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -18,10 +20,19 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "Task")
+@CompoundIndex(name = "teamId_type_id", def = "{'teamId': 1, 'type': 1, '_id': 1}")
+@CompoundIndex(name = "assignedUsersId_type_id", def = "{'assignedUsersId': 1, 'type': 1, '_id': 1}")
+@CompoundIndex(name = "teamId_type_status_id", def = "{'teamId': 1, 'type': 1, 'status': 1, '_id': 1}")
+@CompoundIndex(name = "teamId_type_start_id", def = "{'teamId': 1, 'type': 1, 'start': 1, '_id': 1}")
+@CompoundIndex(name = "teamId_type_end_id", def = "{'teamId': 1, 'type': 1, 'end': 1, '_id': 1}")
+@CompoundIndex(name = "assignedUsersId_type_start_id", def = "{'assignedUsersId': 1, 'type': 1, 'start': 1, '_id': 1}")
+@CompoundIndex(name = "assignedUsersId_type_end_id", def = "{'assignedUsersId': 1, 'type': 1, 'end': 1, '_id': 1}")
 public class Task {
     @Id
     private String id;
+    @TextIndexed
     private String title;
+    @TextIndexed
     private String description;
     private TaskType type;
     private TaskPriority priority;
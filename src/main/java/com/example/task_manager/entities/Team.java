@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -19,8 +20,11 @@ public class Team {
     @Id
     private String id;
     private String name;
+    @Indexed
     private String ownerId;
+    @Indexed
     private List<String> membersId;
     private Date createdAt;
     private Date modifiedAt;
+    private String deletionJobId;
 }
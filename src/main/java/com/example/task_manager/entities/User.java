@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.Date;
@@ -17,6 +18,7 @@ import java.util.Date;
 public class User {
     @Id
     private String id;
+    @Indexed(unique = true)
     private String username;
     private String password;
     private String email;
@@ -25,4 +27,5 @@ public class User {
     private String lastname;
     private Date createdAt;
     private Date modifiedAt;
+    private String deletionJobId;
 }
@@ -0,0 +1,8 @@
+package com.example.task_manager.enums;
+
+public enum DeletionJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.example.task_manager.enums;
+
+import java.util.List;
+
+public enum DeletionJobStep {
+    PERSONAL_TASKS,
+    TASK_ASSIGNMENTS,
+    TEAM_MEMBERSHIPS,
+    TEAM_TASKS,
+    RESOURCE;
+
+    public static List<DeletionJobStep> stepsOf(DeletionResourceType resourceType) {
+        return switch (resourceType) {
+            case USER -> List.of(PERSONAL_TASKS, TASK_ASSIGNMENTS, TEAM_MEMBERSHIPS, RESOURCE);
+            case TEAM -> List.of(TEAM_TASKS, RESOURCE);
+        };
+    }
+}
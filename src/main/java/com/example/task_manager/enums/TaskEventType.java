@@ -0,0 +1,11 @@
+package com.example.task_manager.enums;
+
+public enum TaskEventType {
+    CREATED,
+    BULK_CREATED,
+    UPDATED,
+    ASSIGNED,
+    UNASSIGNED,
+    DELETED,
+    MEMBER_ADDED
+}
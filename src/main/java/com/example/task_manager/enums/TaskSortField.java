@@ -0,0 +1,17 @@
+package com.example.task_manager.enums;
+
+public enum TaskSortField {
+    ID("_id"),
+    START("start"),
+    END("end");
+
+    private final String field;
+
+    TaskSortField(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
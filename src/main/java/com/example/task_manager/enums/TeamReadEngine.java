@@ -0,0 +1,6 @@
+package com.example.task_manager.enums;
+
+public enum TeamReadEngine {
+    AGGREGATION,
+    QUERY
+}
@@ -0,0 +1,307 @@
+package com.example.task_manager.events;
+
+import com.example.task_manager.dtos.response.task.TaskEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// an idle subscriber is an async servlet request plus a small queue, no thread is held;
+// publishers only enqueue, and a subscriber whose queue overflows or whose send outlives
+// the send timeout is evicted instead of slowing down the writes that publish to it
+@Slf4j
+@Component
+@Profile("!reactive")
+public class TaskEventBroadcaster {
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Executor sender;
+    private final ScheduledExecutorService scheduler;
+    private final int bufferSize;
+    private final int threads;
+    private final int maxStalledSends;
+    private final Duration timeout;
+    private final Duration sendTimeout;
+    private final Object poolSizeLock = new Object();
+
+    public TaskEventBroadcaster(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${task-manager.tasks.events.buffer-size:64}") int bufferSize,
+            @Value("${task-manager.tasks.events.timeout:30m}") Duration timeout,
+            @Value("${task-manager.tasks.events.heartbeat:25s}") Duration heartbeat,
+            @Value("${task-manager.tasks.events.send-timeout:5s}") Duration sendTimeout,
+            @Value("${task-manager.tasks.events.threads:32}") int threads,
+            @Value("${task-manager.tasks.events.max-stalled-sends:256}") int maxStalledSends
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.bufferSize = bufferSize;
+        this.threads = threads;
+        this.maxStalledSends = maxStalledSends;
+        this.timeout = timeout;
+        this.sendTimeout = sendTimeout;
+        this.sender = sender(Threading.VIRTUAL.isActive(environment), threads);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-events-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        long stallCheck = Math.max(1, sendTimeout.toMillis() / 2);
+        scheduler.scheduleAtFixedRate(this::evictStalledSubscribers, stallCheck, stallCheck, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("task.events.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String teamId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(teamId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> detach(subscriber));
+        emitter.onTimeout(() -> detach(subscriber));
+        emitter.onError(error -> detach(subscriber));
+
+        subscribers.compute(teamId, (key, team) -> {
+            Set<Subscriber> target = team == null ? ConcurrentHashMap.newKeySet() : team;
+            target.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+        offer(subscriber, SseEmitter.event().comment("subscribed to team " + teamId).build());
+        log.debug("[TaskEventBroadcaster] Subscribed to events of team with ID: {}", teamId);
+        return emitter;
+    }
+
+    public void publish(TaskEventDto event) {
+        Set<Subscriber> team = subscribers.get(event.getTeamId());
+        if (team == null || team.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> message;
+        try {
+            message = SseEmitter.event()
+                    .name(event.getType().name())
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("[TaskEventBroadcaster] Failed to serialize {} event for team with ID: {}",
+                    event.getType(), event.getTeamId(), e);
+            return;
+        }
+        team.forEach(subscriber -> offer(subscriber, message));
+    }
+
+    public void completeTeam(String teamId) {
+        Set<Subscriber> team = subscribers.remove(teamId);
+        if (team != null) {
+            team.forEach(subscriber -> {
+                if (subscriber.detached.compareAndSet(false, true)) {
+                    subscriberCount.decrementAndGet();
+                    subscriber.buffer.clear();
+                }
+                tryClose(subscriber);
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        subscribers.keySet().forEach(this::completeTeam);
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (subscriber.detached.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(message)) {
+            evict(subscriber, "buffer-full", bufferSize + " events buffered");
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    // one drain sends at most a buffer's worth before going to the back of the queue, so a busy
+    // subscriber cannot keep a sender thread to itself
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> message;
+            int sent = 0;
+            while (!subscriber.detached.get() && sent++ < bufferSize && (message = subscriber.buffer.poll()) != null) {
+                subscriber.sendDeadline = System.nanoTime() + sendTimeout.toNanos();
+                subscriber.sending = true;
+                try {
+                    subscriber.emitter.send(message);
+                } finally {
+                    subscriber.sending = false;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[TaskEventBroadcaster] Dropping subscriber of team with ID: {}: {}", subscriber.teamId, e.getMessage());
+            detach(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.detached.get()) {
+            tryClose(subscriber);
+        } else if (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    // a send blocks until the client reads or the connector's write timeout fires, so a send past
+    // its deadline means a stalled client; on the platform pool its thread is replaced until it returns,
+    // up to max-stalled-sends extra threads
+    private void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(team -> team.forEach(subscriber -> {
+            if (!subscriber.sending || now - subscriber.sendDeadline <= 0) {
+                return;
+            }
+            // flagged before detaching, so whichever thread closes the emitter gives the thread back
+            subscriber.compensated.set(compensate());
+            if (!evict(subscriber, "send-stalled", "send blocked for over " + sendTimeout)
+                    && subscriber.compensated.compareAndSet(true, false)) {
+                release();
+            }
+        }));
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(team -> team.forEach(subscriber -> offer(subscriber, HEARTBEAT)));
+    }
+
+    private boolean evict(Subscriber subscriber, String reason, String detail) {
+        if (!detach(subscriber)) {
+            return false;
+        }
+        meterRegistry.counter("task.events.evicted", "reason", reason).increment();
+        log.warn("[TaskEventBroadcaster] Evicting slow subscriber of team with ID: {}, {}", subscriber.teamId, detail);
+        tryClose(subscriber);
+        return true;
+    }
+
+    // stops routing events to the subscriber; false when it was already detached
+    private boolean detach(Subscriber subscriber) {
+        if (!subscriber.detached.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriber.buffer.clear();
+        subscribers.computeIfPresent(subscriber.teamId, (key, team) -> {
+            if (team.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return team.isEmpty() ? null : team;
+        });
+        return true;
+    }
+
+    // the emitter is locked for the whole of a send, so only the thread that owns the drain completes it;
+    // whoever takes the drain flag after detaching closes it, and a running drain closes it when it returns
+    private void tryClose(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            if (subscriber.compensated.compareAndSet(true, false)) {
+                release();
+            }
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean compensate() {
+        if (!(sender instanceof ThreadPoolExecutor pool)) {
+            return false;
+        }
+        synchronized (poolSizeLock) {
+            if (pool.getMaximumPoolSize() - threads >= maxStalledSends) {
+                return false;
+            }
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+            pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+            return true;
+        }
+    }
+
+    private void release() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) sender;
+        synchronized (poolSizeLock) {
+            pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+        }
+    }
+
+    private static Executor sender(boolean virtualThreads, int threads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("task-events-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-events-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    private static final class Subscriber {
+        private final String teamId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean detached = new AtomicBoolean();
+        private final AtomicBoolean compensated = new AtomicBoolean();
+        private volatile boolean sending;
+        private volatile long sendDeadline;
+
+        private Subscriber(String teamId, SseEmitter emitter, BlockingQueue<Set<DataWithMediaType>> buffer) {
+            this.teamId = teamId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
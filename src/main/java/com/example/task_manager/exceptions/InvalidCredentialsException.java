@@ -0,0 +1,9 @@
+package com.example.task_manager.exceptions;
+
+import java.util.Date;
+
+public class InvalidCredentialsException extends GeneralException {
+    public InvalidCredentialsException(String message, Date date) {
+        super(message, date);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.task_manager.exceptions;
+
+import java.util.Date;
+
+public class InvalidDateRangeException extends GeneralException {
+    public InvalidDateRangeException(String message, Date date) {
+        super(message, date);
+    }
+}
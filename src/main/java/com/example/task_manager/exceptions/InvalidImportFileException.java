@@ -0,0 +1,9 @@
+package com.example.task_manager.exceptions;
+
+import java.util.Date;
+
+public class InvalidImportFileException extends GeneralException {
+    public InvalidImportFileException(String message, Date date) {
+        super(message, date);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.task_manager.exceptions;
+
+import java.util.Date;
+
+public class InvalidPageCursorException extends GeneralException {
+    public InvalidPageCursorException(String message, Date date) {
+        super(message, date);
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.task_manager.jobs;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.repositories.DeletionJobRepository;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.example.task_manager.utils.ExistenceCache;
+import com.example.task_manager.utils.TeamMembershipCache;
+import com.example.task_manager.utils.TaskCalendarCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+// every step re-queries what is still left and works through it in bounded batches, so a job
+// whose worker crashed or lost its lease is resumed by the sweeper from its recorded step
+@Slf4j
+@Component
+@Profile("!reactive")
+public class DeletionJobWorker {
+    private final DeletionJobRepository deletionJobRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final TaskRepository taskRepository;
+    private final ExistenceCache userExistenceCache;
+    private final ExistenceCache teamExistenceCache;
+    private final TeamMembershipCache teamMembershipCache;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskCalendarCache taskCalendarCache;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService sweeper;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration sweepInterval;
+    private final int maxAttempts;
+
+    public DeletionJobWorker(
+            DeletionJobRepository deletionJobRepository,
+            UserRepository userRepository,
+            TeamRepository teamRepository,
+            TaskRepository taskRepository,
+            @Qualifier("userExistenceCache") ExistenceCache userExistenceCache,
+            @Qualifier("teamExistenceCache") ExistenceCache teamExistenceCache,
+            TeamMembershipCache teamMembershipCache,
+            TaskEventBroadcaster taskEventBroadcaster,
+            TaskCalendarCache taskCalendarCache,
+            MeterRegistry meterRegistry,
+            @Value("${task-manager.deletions.workers:2}") int workers,
+            @Value("${task-manager.deletions.batch-size:500}") int batchSize,
+            @Value("${task-manager.deletions.lease:2m}") Duration lease,
+            @Value("${task-manager.deletions.sweep-interval:30s}") Duration sweepInterval,
+            @Value("${task-manager.deletions.max-attempts:5}") int maxAttempts
+    ) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.taskRepository = taskRepository;
+        this.userExistenceCache = userExistenceCache;
+        this.teamExistenceCache = teamExistenceCache;
+        this.teamMembershipCache = teamMembershipCache;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.taskCalendarCache = taskCalendarCache;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.sweepInterval = sweepInterval;
+        this.maxAttempts = maxAttempts;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "deletion-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deletion-job-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // a job that is lost from the queue by a restart is still PENDING and gets picked up by the sweeper
+    public void submit(String jobId) {
+        workers.execute(() -> {
+            Date now = DateTimeUTC.now();
+            deletionJobRepository.claim(jobId, now, leaseFrom(now)).ifPresent(this::run);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSweeping() {
+        if (sweepInterval.isZero()) {
+            log.info("[DeletionJobWorker] Sweeping for unfinished deletion jobs is disabled");
+            return;
+        }
+        sweeper.scheduleWithFixedDelay(this::sweep, 0, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void sweep() {
+        try {
+            Date now = DateTimeUTC.now();
+            Optional<DeletionJob> job;
+            while ((job = deletionJobRepository.claimNext(now, leaseFrom(now))).isPresent()) {
+                log.info("[DeletionJobWorker] Resuming deletion job with ID: {}", job.get().getId());
+                run(job.get());
+                now = DateTimeUTC.now();
+            }
+        } catch (RuntimeException e) {
+            log.error("[DeletionJobWorker] Failed to sweep for unfinished deletion jobs", e);
+        }
+    }
+
+    private void run(DeletionJob job) {
+        if (job.getAttempts() > maxAttempts) {
+            finish(job, DeletionJobStatus.FAILED, "Gave up after " + maxAttempts + " attempts");
+            return;
+        }
+        log.info("[DeletionJobWorker] Running deletion job with ID: {} for {} with ID: {} from step {}",
+                job.getId(), job.getResourceType(), job.getResourceId(), job.getStep());
+
+        List<DeletionJobStep> steps = DeletionJobStep.stepsOf(job.getResourceType());
+        int from = job.getStep() == null ? 0 : Math.max(steps.indexOf(job.getStep()), 0);
+        try {
+            for (DeletionJobStep step : steps.subList(from, steps.size())) {
+                job.setStep(step);
+                if (!checkpoint(job) || !runStep(job, step)) {
+                    log.warn("[DeletionJobWorker] Lost the lease on deletion job with ID: {} during step {}", job.getId(), step);
+                    return;
+                }
+            }
+            finish(job, DeletionJobStatus.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("[DeletionJobWorker] Deletion job with ID: {} failed during step {} on attempt {}",
+                    job.getId(), job.getStep(), job.getAttempts(), e);
+            if (job.getAttempts() >= maxAttempts) {
+                finish(job, DeletionJobStatus.FAILED, e.getMessage());
+            } else {
+                // expiring the lease right away hands the job to the next sweep
+                Date now = DateTimeUTC.now();
+                deletionJobRepository.recordProgress(job.getId(), job.getLeaseUntil(), job.getStep(), job.getProcessed(), now, now);
+            }
+        }
+    }
+
+    private boolean runStep(DeletionJob job, DeletionJobStep step) {
+        String id = job.getResourceId();
+        return switch (step) {
+            case PERSONAL_TASKS -> drain(job, () -> {
+                List<String> taskIds = taskRepository.findIdsByAssignedUsersIdAndType(id, TaskType.PERSONAL, batchSize);
+                taskRepository.deleteAllById(taskIds);
+                return taskIds.size();
+            });
+            case TASK_ASSIGNMENTS -> drain(job, () -> {
+                List<String> taskIds = taskRepository.findIdsByAssignedUsersIdAndType(id, TaskType.TEAM, batchSize);
+                if (!taskIds.isEmpty()) {
+                    taskRepository.removeAssignedUserFromIds(taskIds, id, DateTimeUTC.now());
+                }
+                return taskIds.size();
+            });
+            case TEAM_MEMBERSHIPS -> {
+                job.setProcessed(job.getProcessed() + teamRepository.removeMemberFromAll(id, DateTimeUTC.now()));
+                teamMembershipCache.invalidateUser(id);
+                yield true;
+            }
+            case TEAM_TASKS -> drain(job, () -> {
+                List<String> taskIds = taskRepository.findIdsByTeamId(id, batchSize);
+                taskRepository.deleteAllById(taskIds);
+                return taskIds.size();
+            });
+            case RESOURCE -> {
+                deleteResource(job);
+                yield true;
+            }
+        };
+    }
+
+    private boolean drain(DeletionJob job, IntSupplier batch) {
+        int processed;
+        while ((processed = batch.getAsInt()) > 0) {
+            job.setProcessed(job.getProcessed() + processed);
+            if (!checkpoint(job)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deleteResource(DeletionJob job) {
+        String id = job.getResourceId();
+        switch (job.getResourceType()) {
+            case USER -> {
+                userRepository.deleteById(id);
+                userExistenceCache.invalidate(id);
+                taskCalendarCache.invalidate(TaskCalendarCache.Key.user(id));
+            }
+            case TEAM -> {
+                teamRepository.deleteById(id);
+                teamExistenceCache.invalidate(id);
+                teamMembershipCache.invalidateTeam(id);
+                taskEventBroadcaster.completeTeam(id);
+                taskCalendarCache.invalidate(TaskCalendarCache.Key.team(id));
+            }
+        }
+    }
+
+    // persists the step and progress and extends the lease; false means another worker owns the job now
+    private boolean checkpoint(DeletionJob job) {
+        Date now = DateTimeUTC.now();
+        Date leaseUntil = leaseFrom(now);
+        if (!deletionJobRepository.recordProgress(job.getId(), job.getLeaseUntil(), job.getStep(), job.getProcessed(), leaseUntil, now)) {
+            return false;
+        }
+        job.setLeaseUntil(leaseUntil);
+        return true;
+    }
+
+    private void finish(DeletionJob job, DeletionJobStatus status, String error) {
+        if (deletionJobRepository.finish(job.getId(), job.getLeaseUntil(), status, error, DateTimeUTC.now())) {
+            meterRegistry.counter("deletion.jobs.finished", "resource", job.getResourceType().name(), "status", status.name()).increment();
+            log.info("[DeletionJobWorker] Deletion job with ID: {} for {} with ID: {} finished as {} after processing {} documents",
+                    job.getId(), job.getResourceType(), job.getResourceId(), status, job.getProcessed());
+            if (status == DeletionJobStatus.FAILED) {
+                clearPendingDeletion(job);
+            }
+        }
+    }
+
+    // a failed job is not retried, so its resource is visible again and can be deleted by a new request;
+    // whatever the completed steps removed stays removed
+    private void clearPendingDeletion(DeletionJob job) {
+        String id = job.getResourceId();
+        boolean cleared = switch (job.getResourceType()) {
+            case USER -> userRepository.clearPendingDeletion(id, job.getId(), DateTimeUTC.now());
+            case TEAM -> teamRepository.clearPendingDeletion(id, job.getId(), DateTimeUTC.now());
+        };
+        if (cleared) {
+            log.info("[DeletionJobWorker] Cleared the pending deletion of {} with ID: {} after job with ID: {} failed",
+                    job.getResourceType(), id, job.getId());
+        }
+    }
+
+    private Date leaseFrom(Date now) {
+        return new Date(now.getTime() + lease.toMillis());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.task_manager.mappers;
+
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
+import com.example.task_manager.entities.DeletionJob;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeletionJobMapper {
+    public DeletionJobResponseDto toDto(DeletionJob job) {
+        return DeletionJobResponseDto.builder()
+                .id(job.getId())
+                .resourceType(job.getResourceType())
+                .resourceId(job.getResourceId())
+                .status(job.getStatus())
+                .step(job.getStep())
+                .processed(job.getProcessed())
+                .attempts(job.getAttempts())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .modifiedAt(job.getModifiedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
@@ -1,10 +1,23 @@
 package com.example.task_manager.mappers;
 
+import com.example.task_manager.dtos.request.task.TaskPatchRequestDto;
 import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.dtos.response.task.TaskPageResponseDto;
 import com.example.task_manager.dtos.response.task.TaskResponseDto;
 import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.utils.PageCursor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class TaskMapper {
     public Task toEntity(TaskRequestDto dto) {
@@ -19,6 +32,49 @@ public class TaskMapper {
                 .build();
     }
 
+    public Task toPersonalTask(TaskRequestDto dto, String userId, Date now) {
+        Task task = toEntity(dto);
+        task.setType(TaskType.PERSONAL);
+        task.setStatus(TaskStatus.NEW);
+        task.setCreatedAt(now);
+        task.setModifiedAt(now);
+        task.setAssignedUsersId(List.of(userId));
+        return task;
+    }
+
+    public Task toTeamTask(TaskRequestDto dto, String teamId, Date now) {
+        Task task = toEntity(dto);
+        task.setType(TaskType.TEAM);
+        task.setStatus(TaskStatus.NEW);
+        task.setCreatedAt(now);
+        task.setModifiedAt(now);
+        task.setAssignedUsersId(new ArrayList<>());
+        task.setTeamId(teamId);
+        return task;
+    }
+
+    public Task toUpdatedEntity(TaskRequestDto dto, Task existing, Date now) {
+        Task task = toEntity(dto);
+        task.setId(existing.getId());
+        task.setCreatedAt(existing.getCreatedAt());
+        task.setModifiedAt(now);
+        task.setType(existing.getType()); // because cannot be modified
+        task.setAssignedUsersId(existing.getAssignedUsersId());
+        task.setTeamId(existing.getTeamId());
+        return task;
+    }
+
+    public Map<String, Object> toChangedFields(TaskPatchRequestDto dto) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfPresent(fields, "title", dto.getTitle());
+        putIfPresent(fields, "description", dto.getDescription());
+        putIfPresent(fields, "priority", dto.getPriority());
+        putIfPresent(fields, "status", dto.getStatus());
+        putIfPresent(fields, "start", dto.getStart());
+        putIfPresent(fields, "end", dto.getEnd());
+        return fields;
+    }
+
     public TaskResponseDto toDto(Task task) {
         return TaskResponseDto.builder()
                 .id(task.getId())
@@ -31,4 +87,48 @@ public class TaskMapper {
                 .end(task.getEnd())
                 .build();
     }
+
+    public TaskCalendarEntryDto toCalendarEntry(Task task) {
+        return TaskCalendarEntryDto.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .priority(task.getPriority())
+                .status(task.getStatus())
+                .start(task.getStart())
+                .end(task.getEnd())
+                .build();
+    }
+
+    public TaskPageResponseDto toPageDto(List<Task> tasks, int limit) {
+        boolean hasNext = tasks.size() > limit;
+        List<Task> page = hasNext ? tasks.subList(0, limit) : tasks;
+        return TaskPageResponseDto.builder()
+                .tasks(page.stream().map(this::toDto).toList())
+                .nextCursor(hasNext ? PageCursor.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    public TaskPageResponseDto toSearchPageDto(List<Task> tasks, int limit, TaskSortField sort) {
+        boolean hasNext = tasks.size() > limit;
+        List<Task> page = hasNext ? tasks.subList(0, limit) : tasks;
+        return TaskPageResponseDto.builder()
+                .tasks(page.stream().map(this::toDto).toList())
+                .nextCursor(hasNext ? searchCursor(page.get(page.size() - 1), sort) : null)
+                .build();
+    }
+
+    private static String searchCursor(Task last, TaskSortField sort) {
+        Date lastValue = switch (sort) {
+            case ID -> null;
+            case START -> last.getStart();
+            case END -> last.getEnd();
+        };
+        return PageCursor.encode(sort, lastValue, last.getId());
+    }
+
+    private static void putIfPresent(Map<String, Object> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
 }
@@ -1,13 +1,31 @@
 package com.example.task_manager.mappers;
 
 import com.example.task_manager.dtos.request.team.TeamRequestDto;
+import com.example.task_manager.dtos.response.task.TaskPageResponseDto;
 import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import com.example.task_manager.dtos.response.user.UserResponseDto;
 import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.repositories.projections.TeamWithCollections;
 import com.example.task_manager.utils.TeamCollectionData;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Component
 public class TeamMapper {
+    private final UserMapper userMapper;
+    private final TaskMapper taskMapper;
+
+    public TeamMapper(UserMapper userMapper, TaskMapper taskMapper) {
+        this.userMapper = userMapper;
+        this.taskMapper = taskMapper;
+    }
+
     public Team toEntity(TeamRequestDto dto) {
         return Team.builder()
                 .id(dto.getId())
@@ -23,6 +41,35 @@ public class TeamMapper {
                 .ownerId(team.getOwnerId())
                 .members(teamData.getMembers())
                 .tasks(teamData.getTasks())
+                .tasksNextCursor(teamData.getTasksNextCursor())
+                .build();
+    }
+
+    public TeamResponseDto toDto(TeamWithCollections team, int taskLimit) {
+        Map<String, User> membersById = team.getMembers()
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<UserResponseDto> members = team.getMembersId()
+                .stream()
+                .map(membersById::get)
+                .filter(Objects::nonNull)
+                .map(userMapper::toDto)
+                .toList();
+
+        TaskPageResponseDto tasks = taskLimit > 0
+                ? taskMapper.toPageDto(team.getTasks(), taskLimit)
+                : TaskPageResponseDto.builder()
+                        .tasks(team.getTasks().stream().map(taskMapper::toDto).toList())
+                        .build();
+
+        return TeamResponseDto.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .ownerId(team.getOwnerId())
+                .members(members)
+                .tasks(tasks.getTasks())
+                .tasksNextCursor(tasks.getNextCursor())
                 .build();
     }
 }
@@ -0,0 +1,159 @@
+package com.example.task_manager.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class MongoCommandMonitor implements CommandListener {
+    private static final Set<String> COUNTED_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "insert", "update", "delete", "findAndModify"
+    );
+
+    private final long slowThresholdNanos;
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+
+    private record StartedCommand(String collection, String filterShape) {
+    }
+
+    public MongoCommandMonitor(Duration slowThreshold, MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String commandName = event.getCommandName();
+        if (!COUNTED_COMMANDS.contains(commandName)) {
+            return;
+        }
+        QueryCounter.increment();
+
+        BsonDocument command = event.getCommand();
+        BsonValue collection = command.get(commandName);
+        inFlight.put(event.getRequestId(), new StartedCommand(
+                collection != null && collection.isString() ? collection.asString().getValue() : "-",
+                shapeOf(filterOf(commandName, command))
+        ));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        StartedCommand started = inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        long elapsed = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        int documents = documentCount(event.getResponse());
+        record(event.getCommandName(), started.collection(), "success", elapsed);
+        DistributionSummary.builder("mongo.command.documents")
+                .tag("command", event.getCommandName())
+                .tag("collection", started.collection())
+                .register(meterRegistry)
+                .record(documents);
+        if (elapsed < slowThresholdNanos) {
+            return;
+        }
+        log.warn("[MongoCommandMonitor] Slow {} on {} took {} ms and returned {} documents, filter: {}",
+                event.getCommandName(), started.collection(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                documents, started.filterShape());
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        StartedCommand started = inFlight.remove(event.getRequestId());
+        if (started == null) {
+            return;
+        }
+        record(event.getCommandName(), started.collection(), "failure", event.getElapsedTime(TimeUnit.NANOSECONDS));
+        log.warn("[MongoCommandMonitor] Failed {} on {} after {} ms, filter: {}",
+                event.getCommandName(), started.collection(), event.getElapsedTime(TimeUnit.MILLISECONDS),
+                started.filterShape());
+    }
+
+    // collections are the application's fixed set, so tagging by them keeps the number of series bounded
+    private void record(String commandName, String collection, String outcome, long elapsedNanos) {
+        Timer.builder("mongo.commands")
+                .tag("command", commandName)
+                .tag("collection", collection)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static BsonValue filterOf(String commandName, BsonDocument command) {
+        return switch (commandName) {
+            case "find", "count", "distinct" -> command.containsKey("filter") ? command.get("filter") : command.get("query");
+            case "aggregate" -> command.get("pipeline");
+            case "findAndModify" -> command.get("query");
+            case "update" -> firstStatementField(command, "updates", "q");
+            case "delete" -> firstStatementField(command, "deletes", "q");
+            default -> null;
+        };
+    }
+
+    private static BsonValue firstStatementField(BsonDocument command, String statements, String field) {
+        BsonValue value = command.get(statements);
+        if (value == null || !value.isArray() || value.asArray().isEmpty() || !value.asArray().get(0).isDocument()) {
+            return null;
+        }
+        return value.asArray().get(0).asDocument().get(field);
+    }
+
+    static String shapeOf(BsonValue value) {
+        if (value == null) {
+            return "{}";
+        }
+        if (value.isDocument()) {
+            StringBuilder shape = new StringBuilder("{");
+            for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+                if (shape.length() > 1) {
+                    shape.append(", ");
+                }
+                shape.append(entry.getKey()).append(": ").append(shapeOf(entry.getValue()));
+            }
+            return shape.append('}').toString();
+        }
+        if (value.isArray()) {
+            BsonArray array = value.asArray();
+            boolean operators = !array.isEmpty() && array.get(0).isDocument();
+            if (!operators) {
+                return "[?]";
+            }
+            StringBuilder shape = new StringBuilder("[");
+            for (BsonValue element : array) {
+                if (shape.length() > 1) {
+                    shape.append(", ");
+                }
+                shape.append(shapeOf(element));
+            }
+            return shape.append(']').toString();
+        }
+        return "?";
+    }
+
+    private static int documentCount(BsonDocument response) {
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            return batch != null && batch.isArray() ? batch.asArray().size() : 0;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().intValue() : 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.task_manager.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    private final int defaultBudget;
+
+    public QueryBudgetFilter(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Scope scope = QueryCounter.open(defaultBudget, request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.close();
+        }
+
+        // the response is committed by now, so an overrun is only reported here; QueryBudgetHandlerAdapter
+        // fails it before the response is written
+        if (scope.isOverBudget()) {
+            log.warn("[QueryBudget][{}] Issued {} Mongo queries, budget is {}",
+                    scope.getEndpoint(), scope.getHandlerCount(), scope.getBudget());
+        } else {
+            log.debug("[QueryBudget][{}] Issued {} Mongo queries", scope.getEndpoint(), scope.getHandlerCount());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.task_manager.monitoring;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+// checks the budget once the handler has returned and before any return value handler runs, which is
+// the last point where an overrun can still become an error response instead of a committed 2xx,
+// with or without a body
+public class QueryBudgetHandlerAdapter extends RequestMappingHandlerAdapter {
+    private final boolean failOnExceed;
+
+    public QueryBudgetHandlerAdapter(boolean failOnExceed) {
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        List<HandlerMethodReturnValueHandler> handlers = getReturnValueHandlers();
+        if (failOnExceed && handlers != null) {
+            setReturnValueHandlers(handlers.stream().map(Enforcing::new).map(HandlerMethodReturnValueHandler.class::cast).toList());
+        }
+    }
+
+    private static void enforce() {
+        QueryCounter.Scope scope = QueryCounter.current();
+        // an error response may be handled here as well, so each scope fails at most once
+        if (scope != null && scope.isOverBudget() && !scope.isEnforced()) {
+            scope.setEnforced(true);
+            throw new IllegalStateException(
+                    scope.getEndpoint() + " issued " + scope.getHandlerCount() + " Mongo queries, budget is " + scope.getBudget());
+        }
+    }
+
+    private record Enforcing(HandlerMethodReturnValueHandler delegate) implements HandlerMethodReturnValueHandler {
+        @Override
+        public boolean supportsReturnType(MethodParameter returnType) {
+            return delegate.supportsReturnType(returnType);
+        }
+
+        @Override
+        public void handleReturnValue(
+                Object returnValue,
+                MethodParameter returnType,
+                ModelAndViewContainer mavContainer,
+                NativeWebRequest webRequest
+        ) throws Exception {
+            enforce();
+            delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.task_manager.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.Scope scope = QueryCounter.current();
+        if (scope != null && handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                scope.setBudget(budget.value());
+            }
+            scope.setEndpoint(handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+            scope.setHandlerStart(scope.getCount());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.task_manager.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class QueryCounter {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    @Getter
+    @Setter
+    public static class Scope {
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile int budget;
+        private volatile String endpoint;
+        private volatile int handlerStart;
+        private volatile boolean enforced;
+
+        public int getCount() {
+            return count.get();
+        }
+
+        // queries issued from the handler on, so filters such as the authorization checks
+        // ahead of it do not count against the endpoint's budget
+        public int getHandlerCount() {
+            return count.get() - handlerStart;
+        }
+
+        public boolean isOverBudget() {
+            return budget > 0 && getHandlerCount() > budget;
+        }
+    }
+
+    public static Scope open(int budget, String endpoint) {
+        Scope scope = new Scope();
+        scope.setBudget(budget);
+        scope.setEndpoint(endpoint);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static void increment() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count.incrementAndGet();
+        }
+    }
+
+    public static Runnable propagate(Runnable runnable) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return runnable;
+        }
+        return () -> {
+            Scope previous = CURRENT.get();
+            CURRENT.set(scope);
+            try {
+                runnable.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
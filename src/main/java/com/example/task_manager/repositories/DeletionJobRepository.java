@@ -0,0 +1,9 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.DeletionJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeletionJobRepository extends MongoRepository<DeletionJob, String>, DeletionJobRepositoryCustom {
+}
@@ -0,0 +1,17 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+
+import java.util.Date;
+import java.util.Optional;
+
+public interface DeletionJobRepositoryCustom {
+    boolean release(String jobId, Date reservedUntil, Date modifiedAt);
+    boolean discard(String jobId, Date reservedUntil);
+    Optional<DeletionJob> claim(String jobId, Date now, Date leaseUntil);
+    Optional<DeletionJob> claimNext(Date now, Date leaseUntil);
+    boolean recordProgress(String jobId, Date heldLease, DeletionJobStep step, long processed, Date leaseUntil, Date modifiedAt);
+    boolean finish(String jobId, Date heldLease, DeletionJobStatus status, String error, Date completedAt);
+}
@@ -0,0 +1,102 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+// a job is owned by whoever holds its lease; progress and completion are written only
+// while the stored lease still matches the one the worker claimed, so a worker that
+// stalled past its lease cannot overwrite the one that took the job over; a PENDING job is
+// inserted with a lease as a reservation that is released or discarded by whoever scheduled it
+public class DeletionJobRepositoryCustomImpl implements DeletionJobRepositoryCustom {
+    private static final List<DeletionJobStatus> ACTIVE = List.of(DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING);
+
+    private final MongoTemplate mongoTemplate;
+
+    public DeletionJobRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean release(String jobId, Date reservedUntil, Date modifiedAt) {
+        Update update = new Update()
+                .unset("leaseUntil")
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(reserved(jobId, reservedUntil), update, DeletionJob.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean discard(String jobId, Date reservedUntil) {
+        return mongoTemplate.remove(reserved(jobId, reservedUntil), DeletionJob.class).getDeletedCount() > 0;
+    }
+
+    @Override
+    public Optional<DeletionJob> claim(String jobId, Date now, Date leaseUntil) {
+        return claim(Criteria.where("id").is(jobId).and("status").in(ACTIVE), now, leaseUntil);
+    }
+
+    @Override
+    public Optional<DeletionJob> claimNext(Date now, Date leaseUntil) {
+        return claim(Criteria.where("status").in(ACTIVE), now, leaseUntil);
+    }
+
+    @Override
+    public boolean recordProgress(String jobId, Date heldLease, DeletionJobStep step, long processed, Date leaseUntil, Date modifiedAt) {
+        Update update = new Update()
+                .set("step", step)
+                .set("processed", processed)
+                .set("leaseUntil", leaseUntil)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(held(jobId, heldLease), update, DeletionJob.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public boolean finish(String jobId, Date heldLease, DeletionJobStatus status, String error, Date completedAt) {
+        Update update = new Update()
+                .set("status", status)
+                .set("error", error)
+                .unset("leaseUntil")
+                .set("modifiedAt", completedAt)
+                .set("completedAt", completedAt);
+        return mongoTemplate.updateFirst(held(jobId, heldLease), update, DeletionJob.class).getModifiedCount() > 0;
+    }
+
+    private Optional<DeletionJob> claim(Criteria criteria, Date now, Date leaseUntil) {
+        Query query = Query.query(criteria.orOperator(
+                Criteria.where("leaseUntil").is(null),
+                Criteria.where("leaseUntil").lt(now)
+        ));
+        Update update = new Update()
+                .set("status", DeletionJobStatus.RUNNING)
+                .set("leaseUntil", leaseUntil)
+                .set("modifiedAt", now)
+                .inc("attempts", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                DeletionJob.class
+        ));
+    }
+
+    private static Query reserved(String jobId, Date reservedUntil) {
+        return Query.query(Criteria.where("id").is(jobId)
+                .and("status").is(DeletionJobStatus.PENDING)
+                .and("leaseUntil").is(reservedUntil));
+    }
+
+    private static Query held(String jobId, Date heldLease) {
+        return Query.query(Criteria.where("id").is(jobId)
+                .and("status").is(DeletionJobStatus.RUNNING)
+                .and("leaseUntil").is(heldLease));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.task_manager.repositories;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+
+public class ModificationStamps {
+    // folds the matched timestamps into a single ModificationStamp document
+    public static AggregationOperation group(String field) {
+        return context -> new Document("$group", new Document()
+                .append("_id", null)
+                .append("count", new Document("$sum", 1))
+                .append("modifiedAtSum", new Document("$sum", new Document("$toLong", field)))
+                .append("lastModifiedAt", new Document("$max", field)));
+    }
+}
@@ -2,17 +2,34 @@ package com.example.task_manager.repositories;
 
 import com.example.task_manager.entities.Task;
 import com.example.task_manager.enums.TaskType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.Meta;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends MongoRepository<Task, String> {
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
     boolean existsByIdAndType(String id, TaskType type);
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'teamId': 1, 'type': 1 }")
+    Optional<Task> findTeamRefById(String id);
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'teamId': 1, 'type': 1, 'assignedUsersId': 1 }")
+    Optional<Task> findAccessRefById(String id);
+    @Query(value = "{ '_id': ?0, 'type': ?1 }", fields = "{ 'assignedUsersId': 1 }")
+    Optional<Task> findAssigneesByIdAndType(String id, TaskType type);
     List<Task> findByTeamIdAndType(String teamId, TaskType type);
     List<Task> findByAssignedUsersIdAndType(String id, TaskType type);
-    void deleteByAssignedUsersIdAndType(String userId, TaskType type);
+    List<Task> findByTeamIdAndTypeOrderByIdAsc(String teamId, TaskType type, Limit limit);
+    List<Task> findByTeamIdAndTypeAndIdGreaterThanOrderByIdAsc(String teamId, TaskType type, String lastId, Limit limit);
+    List<Task> findByAssignedUsersIdAndTypeOrderByIdAsc(String id, TaskType type, Limit limit);
+    List<Task> findByAssignedUsersIdAndTypeAndIdGreaterThanOrderByIdAsc(String id, TaskType type, String lastId, Limit limit);
+    @Meta(cursorBatchSize = 1000)
+    Stream<Task> streamByTeamIdAndType(String teamId, TaskType type);
+    @Meta(cursorBatchSize = 1000)
+    Stream<Task> streamByAssignedUsersIdAndType(String id, TaskType type);
     void deleteByIdAndTeamIdAndType(String teamId, String taskId, TaskType type);
-    void deleteByTeamId(String teamId);
 }
@@ -0,0 +1,23 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.projections.ModificationStamp;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface TaskRepositoryCustom {
+    void insertUnordered(List<Task> tasks);
+    boolean addAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt);
+    Optional<Task> removeAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt);
+    Optional<Task> updateFields(String taskId, Map<String, Object> fields, Date modifiedAt);
+    ModificationStamp findModificationStampByTeamIdAndType(String teamId, TaskType type);
+    List<String> findIdsByTeamId(String teamId, int limit);
+    List<String> findIdsByAssignedUsersIdAndType(String userId, TaskType type, int limit);
+    long removeAssignedUserFromIds(Collection<String> taskIds, String userId, Date modifiedAt);
+    List<Task> search(TaskSearchQuery query);
+}
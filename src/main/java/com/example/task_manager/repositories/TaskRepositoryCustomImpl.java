@@ -0,0 +1,205 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import com.example.task_manager.utils.PageCursor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.BooleanOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public TaskRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void insertUnordered(List<Task> tasks) {
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)
+                .insert(tasks)
+                .execute();
+    }
+
+    @Override
+    public boolean addAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(taskId)
+                .and("type").is(type)
+                .and("assignedUsersId").ne(userId));
+        Update update = new Update()
+                .addToSet("assignedUsersId", userId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, Task.class).getModifiedCount() > 0;
+    }
+
+    // returns only the team reference of the changed task, so the caller can publish without reading it again
+    @Override
+    public Optional<Task> removeAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(taskId)
+                .and("type").is(type)
+                .and("assignedUsersId").is(userId));
+        query.fields().include("teamId", "type");
+        Update update = new Update()
+                .pull("assignedUsersId", userId)
+                .set("modifiedAt", modifiedAt);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, FindAndModifyOptions.none(), Task.class));
+    }
+
+    // when only one bound of the date range changes, the other one is checked against
+    // the stored value in the filter, so an invalid range matches no document
+    @Override
+    public Optional<Task> updateFields(String taskId, Map<String, Object> fields, Date modifiedAt) {
+        Criteria criteria = Criteria.where("id").is(taskId);
+        if (fields.containsKey("start") && !fields.containsKey("end")) {
+            criteria.and("end").gte(fields.get("start"));
+        } else if (fields.containsKey("end") && !fields.containsKey("start")) {
+            criteria.and("start").lte(fields.get("end"));
+        }
+
+        Update update = new Update().set("modifiedAt", modifiedAt);
+        fields.forEach(update::set);
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                Query.query(criteria),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Task.class
+        ));
+    }
+
+    @Override
+    public ModificationStamp findModificationStampByTeamIdAndType(String teamId, TaskType type) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("teamId").is(teamId).and("type").is(type.name())),
+                ModificationStamps.group("$modifiedAt")
+        );
+        ModificationStamp stamp = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Task.class), ModificationStamp.class)
+                .getUniqueMappedResult();
+        return stamp == null ? ModificationStamp.empty() : stamp;
+    }
+
+    @Override
+    public List<String> findIdsByTeamId(String teamId, int limit) {
+        return findIds(Criteria.where("teamId").is(teamId), limit);
+    }
+
+    @Override
+    public List<String> findIdsByAssignedUsersIdAndType(String userId, TaskType type, int limit) {
+        return findIds(Criteria.where("assignedUsersId").is(userId).and("type").is(type), limit);
+    }
+
+    @Override
+    public long removeAssignedUserFromIds(Collection<String> taskIds, String userId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").in(taskIds).and("assignedUsersId").is(userId));
+        Update update = new Update()
+                .pull("assignedUsersId", userId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateMulti(query, update, Task.class).getModifiedCount();
+    }
+
+    private List<String> findIds(Criteria criteria, int limit) {
+        Query query = Query.query(criteria).limit(limit);
+        query.fields().include("id");
+        return mongoTemplate.find(query, Task.class).stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    // every search is scoped by teamId or assignee, which leads each of the compound indexes; the
+    // sort field follows the equality prefix so ordered pages come straight off the index, and a
+    // keyset position only tightens the range bound on that field, with ties broken by _id in $expr
+    // because $text does not allow an unindexed $or next to it
+    @Override
+    public List<Task> search(TaskSearchQuery search) {
+        Criteria criteria = search.getTeamId() != null
+                ? Criteria.where("teamId").is(search.getTeamId())
+                : Criteria.where("assignedUsersId").is(search.getAssigneeId());
+        if (search.getTeamId() != null && search.getAssigneeId() != null) {
+            criteria.and("assignedUsersId").is(search.getAssigneeId());
+        }
+        criteria.and("type").in(search.getTypes());
+        if (search.getStatuses() != null && !search.getStatuses().isEmpty()) {
+            criteria.and("status").in(search.getStatuses());
+        }
+        if (search.getPriorities() != null && !search.getPriorities().isEmpty()) {
+            criteria.and("priority").in(search.getPriorities());
+        }
+
+        boolean ascending = search.getDirection().isAscending();
+        PageCursor.Position after = search.getAfter();
+        TaskSortField sort = search.getSort();
+        Date startFrom = search.getStartFrom();
+        Date startTo = search.getStartTo();
+        Date endFrom = search.getEndFrom();
+        Date endTo = search.getEndTo();
+        if (after != null && sort == TaskSortField.START) {
+            startFrom = ascending ? latest(startFrom, after.lastValue()) : startFrom;
+            startTo = ascending ? startTo : earliest(startTo, after.lastValue());
+        } else if (after != null && sort == TaskSortField.END) {
+            endFrom = ascending ? latest(endFrom, after.lastValue()) : endFrom;
+            endTo = ascending ? endTo : earliest(endTo, after.lastValue());
+        }
+        range(criteria, "start", startFrom, startTo);
+        range(criteria, "end", endFrom, endTo);
+
+        if (after != null && sort == TaskSortField.ID) {
+            if (ascending) {
+                criteria.and("id").gt(after.lastId());
+            } else {
+                criteria.and("id").lt(after.lastId());
+            }
+        } else if (after != null) {
+            ObjectId lastId = new ObjectId(after.lastId());
+            criteria.andOperator(Criteria.expr(ascending
+                    ? BooleanOperators.Or.or(
+                            ComparisonOperators.valueOf(sort.getField()).greaterThanValue(after.lastValue()),
+                            ComparisonOperators.valueOf("_id").greaterThanValue(lastId))
+                    : BooleanOperators.Or.or(
+                            ComparisonOperators.valueOf(sort.getField()).lessThanValue(after.lastValue()),
+                            ComparisonOperators.valueOf("_id").lessThanValue(lastId))));
+        }
+
+        Query query = Query.query(criteria);
+        if (search.getText() != null) {
+            query.addCriteria(TextCriteria.forDefaultLanguage().matching(search.getText()));
+        }
+        Sort order = sort == TaskSortField.ID
+                ? Sort.by(search.getDirection(), "id")
+                : Sort.by(search.getDirection(), sort.getField(), "id");
+        return mongoTemplate.find(query.with(order).limit(search.getLimit()), Task.class);
+    }
+
+    private static void range(Criteria criteria, String field, Date from, Date to) {
+        if (from != null && to != null) {
+            criteria.and(field).gte(from).lte(to);
+        } else if (from != null) {
+            criteria.and(field).gte(from);
+        } else if (to != null) {
+            criteria.and(field).lte(to);
+        }
+    }
+
+    private static Date latest(Date first, Date second) {
+        return first == null || second.after(first) ? second : first;
+    }
+
+    private static Date earliest(Date first, Date second) {
+        return first == null || second.before(first) ? second : first;
+    }
+}
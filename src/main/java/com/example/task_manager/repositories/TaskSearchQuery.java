@@ -0,0 +1,36 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.utils.PageCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.Date;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchQuery {
+    private String text;
+    private String teamId;
+    private String assigneeId;
+    private List<TaskType> types;
+    private List<TaskStatus> statuses;
+    private List<TaskPriority> priorities;
+    private Date startFrom;
+    private Date startTo;
+    private Date endFrom;
+    private Date endTo;
+    private TaskSortField sort;
+    private Sort.Direction direction;
+    private PageCursor.Position after;
+    private int limit;
+}
@@ -0,0 +1,108 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.enums.TaskType;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TeamAggregations {
+    public static Aggregation teamsWithCollectionsByOwnerId(
+            String ownerId,
+            int taskLimit,
+            String userCollection,
+            String taskCollection
+    ) {
+        List<Document> taskPipeline = new ArrayList<>();
+        taskPipeline.add(new Document("$match", new Document("type", TaskType.TEAM.name())));
+        if (taskLimit > 0) {
+            taskPipeline.add(new Document("$sort", new Document("_id", 1)));
+            taskPipeline.add(new Document("$limit", taskLimit + 1));
+        }
+
+        return Aggregation.newAggregation(
+                ownedAndNotPendingDeletion(ownerId),
+                joinKeys(),
+                stage("$lookup", new Document()
+                        .append("from", userCollection)
+                        .append("localField", "memberObjectIds")
+                        .append("foreignField", "_id")
+                        .append("pipeline", List.of(notPendingDeletion()))
+                        .append("as", "members")),
+                stage("$lookup", new Document()
+                        .append("from", taskCollection)
+                        .append("localField", "teamIdString")
+                        .append("foreignField", "teamId")
+                        .append("pipeline", taskPipeline)
+                        .append("as", "tasks")),
+                stage("$project", new Document()
+                        .append("memberObjectIds", 0)
+                        .append("teamIdString", 0))
+        );
+    }
+
+    // reads only the modifiedAt of the owner's teams, their members and their team tasks,
+    // so the version of a team view costs one round trip without transferring the documents
+    public static Aggregation modificationStampByOwnerId(
+            String ownerId,
+            String userCollection,
+            String taskCollection
+    ) {
+        Document modifiedAtOnly = new Document("$project", new Document("modifiedAt", 1));
+        return Aggregation.newAggregation(
+                ownedAndNotPendingDeletion(ownerId),
+                joinKeys(),
+                stage("$lookup", new Document()
+                        .append("from", userCollection)
+                        .append("localField", "memberObjectIds")
+                        .append("foreignField", "_id")
+                        .append("pipeline", List.of(notPendingDeletion(), modifiedAtOnly))
+                        .append("as", "members")),
+                stage("$lookup", new Document()
+                        .append("from", taskCollection)
+                        .append("localField", "teamIdString")
+                        .append("foreignField", "teamId")
+                        .append("pipeline", List.of(
+                                new Document("$match", new Document("type", TaskType.TEAM.name())),
+                                modifiedAtOnly))
+                        .append("as", "tasks")),
+                stage("$project", new Document("modifiedAt", new Document("$concatArrays", List.of(
+                        List.of("$modifiedAt"),
+                        "$members.modifiedAt",
+                        "$tasks.modifiedAt")))),
+                stage("$unwind", new Document("path", "$modifiedAt")),
+                ModificationStamps.group("$modifiedAt")
+        );
+    }
+
+    // teams and users marked by a deletion job are hidden from reads until the job removes them
+    private static AggregationOperation ownedAndNotPendingDeletion(String ownerId) {
+        return Aggregation.match(Criteria.where("ownerId").is(ownerId).and("deletionJobId").is(null));
+    }
+
+    private static Document notPendingDeletion() {
+        return new Document("$match", new Document("deletionJobId", null));
+    }
+
+    // Team.membersId and Task.teamId hold hex strings while _id is stored as ObjectId,
+    // so both join keys are converted before the $lookup stages
+    private static AggregationOperation joinKeys() {
+        Document memberObjectIds = new Document("$map", new Document()
+                .append("input", new Document("$ifNull", List.of("$membersId", List.of())))
+                .append("in", new Document("$convert", new Document()
+                        .append("input", "$$this")
+                        .append("to", "objectId")
+                        .append("onError", null)
+                        .append("onNull", null))));
+        return stage("$addFields", new Document()
+                .append("memberObjectIds", memberObjectIds)
+                .append("teamIdString", new Document("$toString", "$_id")));
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+        return context -> new Document(operator, body);
+    }
+}
@@ -8,7 +8,9 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TeamRepository extends MongoRepository<Team, String> {
-    public List<Team> findByOwnerId(String ownerId);
-    public List<Team> findByMembersId(String userId);
+public interface TeamRepository extends MongoRepository<Team, String>, TeamRepositoryCustom {
+    public List<Team> findByOwnerIdAndDeletionJobIdIsNull(String ownerId);
+    public boolean existsByOwnerId(String ownerId);
+    public boolean existsByIdAndDeletionJobIdIsNull(String id);
+    public boolean existsByIdAndMembersIdAndDeletionJobIdIsNull(String id, String userId);
 }
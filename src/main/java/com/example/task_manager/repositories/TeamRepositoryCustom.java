@@ -0,0 +1,15 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import com.example.task_manager.repositories.projections.TeamWithCollections;
+
+import java.util.Date;
+import java.util.List;
+
+public interface TeamRepositoryCustom {
+    List<TeamWithCollections> findTeamsWithCollectionsByOwnerId(String ownerId, int taskLimit);
+    long removeMemberFromAll(String userId, Date modifiedAt);
+    ModificationStamp findModificationStampByOwnerId(String ownerId);
+    boolean markPendingDeletion(String teamId, String deletionJobId, Date modifiedAt);
+    boolean clearPendingDeletion(String teamId, String deletionJobId, Date modifiedAt);
+}
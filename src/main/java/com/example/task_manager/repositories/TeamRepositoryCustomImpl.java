@@ -0,0 +1,75 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import com.example.task_manager.repositories.projections.TeamWithCollections;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+import java.util.List;
+
+public class TeamRepositoryCustomImpl implements TeamRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public TeamRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<TeamWithCollections> findTeamsWithCollectionsByOwnerId(String ownerId, int taskLimit) {
+        Aggregation aggregation = TeamAggregations.teamsWithCollectionsByOwnerId(
+                ownerId,
+                taskLimit,
+                mongoTemplate.getCollectionName(User.class),
+                mongoTemplate.getCollectionName(Task.class)
+        );
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Team.class), TeamWithCollections.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public long removeMemberFromAll(String userId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("membersId").is(userId));
+        Update update = new Update()
+                .pull("membersId", userId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateMulti(query, update, Team.class).getModifiedCount();
+    }
+
+    @Override
+    public ModificationStamp findModificationStampByOwnerId(String ownerId) {
+        Aggregation aggregation = TeamAggregations.modificationStampByOwnerId(
+                ownerId,
+                mongoTemplate.getCollectionName(User.class),
+                mongoTemplate.getCollectionName(Task.class)
+        );
+        ModificationStamp stamp = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Team.class), ModificationStamp.class)
+                .getUniqueMappedResult();
+        return stamp == null ? ModificationStamp.empty() : stamp;
+    }
+
+    @Override
+    public boolean markPendingDeletion(String teamId, String deletionJobId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(teamId).and("deletionJobId").is(null));
+        Update update = new Update()
+                .set("deletionJobId", deletionJobId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, Team.class).getModifiedCount() > 0;
+    }
+
+    // only the job that marked the team may clear the mark
+    @Override
+    public boolean clearPendingDeletion(String teamId, String deletionJobId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(teamId).and("deletionJobId").is(deletionJobId));
+        Update update = new Update()
+                .unset("deletionJobId")
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, Team.class).getModifiedCount() > 0;
+    }
+}
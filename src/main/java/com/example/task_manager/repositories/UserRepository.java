@@ -4,9 +4,13 @@ import com.example.task_manager.entities.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     Optional<User> findByUsername(String username);
+    List<User> findByIdInAndDeletionJobIdIsNull(Collection<String> ids);
+    boolean existsByIdAndDeletionJobIdIsNull(String id);
 }
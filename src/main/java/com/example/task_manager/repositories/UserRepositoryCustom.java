@@ -0,0 +1,9 @@
+package com.example.task_manager.repositories;
+
+import java.util.Date;
+
+public interface UserRepositoryCustom {
+    boolean replacePasswordHash(String userId, String expectedHash, String newHash);
+    boolean markPendingDeletion(String userId, String deletionJobId, Date modifiedAt);
+    boolean clearPendingDeletion(String userId, String deletionJobId, Date modifiedAt);
+}
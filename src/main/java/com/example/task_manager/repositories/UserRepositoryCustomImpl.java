@@ -0,0 +1,44 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.entities.User;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Date;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean replacePasswordHash(String userId, String expectedHash, String newHash) {
+        Query query = Query.query(Criteria.where("id").is(userId).and("password").is(expectedHash));
+        Update update = new Update().set("password", newHash);
+        return mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0;
+    }
+
+    // the deletionJobId filter makes marking idempotent, a second delete request finds the resource already claimed
+    @Override
+    public boolean markPendingDeletion(String userId, String deletionJobId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(userId).and("deletionJobId").is(null));
+        Update update = new Update()
+                .set("deletionJobId", deletionJobId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0;
+    }
+
+    // only the job that marked the user may clear the mark
+    @Override
+    public boolean clearPendingDeletion(String userId, String deletionJobId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(userId).and("deletionJobId").is(deletionJobId));
+        Update update = new Update()
+                .unset("deletionJobId")
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0;
+    }
+}
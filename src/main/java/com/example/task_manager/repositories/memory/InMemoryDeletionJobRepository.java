@@ -0,0 +1,133 @@
+package com.example.task_manager.repositories.memory;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.repositories.DeletionJobRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryDeletionJobRepository extends InMemoryRepository<DeletionJob> implements DeletionJobRepository {
+    private final InMemoryIndex<DeletionJobStatus> byStatus = new InMemoryIndex<>();
+
+    public InMemoryDeletionJobRepository(InMemorySnapshot snapshot) {
+        super("DeletionJob", DeletionJob.class, snapshot);
+        register();
+    }
+
+    @Override
+    protected String getId(DeletionJob job) {
+        return job.getId();
+    }
+
+    @Override
+    protected void setId(DeletionJob job, String id) {
+        job.setId(id);
+    }
+
+    @Override
+    protected DeletionJob copy(DeletionJob job) {
+        return DeletionJob.builder()
+                .id(job.getId())
+                .resourceType(job.getResourceType())
+                .resourceId(job.getResourceId())
+                .requestedBy(job.getRequestedBy())
+                .status(job.getStatus())
+                .step(job.getStep())
+                .processed(job.getProcessed())
+                .attempts(job.getAttempts())
+                .error(job.getError())
+                .leaseUntil(job.getLeaseUntil())
+                .createdAt(job.getCreatedAt())
+                .modifiedAt(job.getModifiedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    @Override
+    protected void index(String id, DeletionJob job) {
+        byStatus.add(job.getStatus(), id);
+    }
+
+    @Override
+    protected void unindex(String id, DeletionJob job) {
+        byStatus.remove(job.getStatus(), id);
+    }
+
+    @Override
+    public boolean release(String jobId, Date reservedUntil, Date modifiedAt) {
+        return update(jobId, job -> isReserved(job, reservedUntil), job -> {
+            job.setLeaseUntil(null);
+            job.setModifiedAt(modifiedAt);
+            return job;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean discard(String jobId, Date reservedUntil) {
+        return remove(jobId, job -> isReserved(job, reservedUntil));
+    }
+
+    @Override
+    public Optional<DeletionJob> claim(String jobId, Date now, Date leaseUntil) {
+        return update(jobId, job -> isClaimable(job, now), job -> {
+            job.setStatus(DeletionJobStatus.RUNNING);
+            job.setLeaseUntil(leaseUntil);
+            job.setModifiedAt(now);
+            job.setAttempts(job.getAttempts() + 1);
+            return job;
+        });
+    }
+
+    @Override
+    public Optional<DeletionJob> claimNext(Date now, Date leaseUntil) {
+        return Stream.of(DeletionJobStatus.PENDING, DeletionJobStatus.RUNNING)
+                .flatMap(status -> byStatus.get(status).stream())
+                .map(id -> claim(id, now, leaseUntil))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    @Override
+    public boolean recordProgress(String jobId, Date heldLease, DeletionJobStep step, long processed, Date leaseUntil, Date modifiedAt) {
+        return update(jobId, job -> isHeld(job, heldLease), job -> {
+            job.setStep(step);
+            job.setProcessed(processed);
+            job.setLeaseUntil(leaseUntil);
+            job.setModifiedAt(modifiedAt);
+            return job;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean finish(String jobId, Date heldLease, DeletionJobStatus status, String error, Date completedAt) {
+        return update(jobId, job -> isHeld(job, heldLease), job -> {
+            job.setStatus(status);
+            job.setError(error);
+            job.setLeaseUntil(null);
+            job.setModifiedAt(completedAt);
+            job.setCompletedAt(completedAt);
+            return job;
+        }).isPresent();
+    }
+
+    private static boolean isClaimable(DeletionJob job, Date now) {
+        return (job.getStatus() == DeletionJobStatus.PENDING || job.getStatus() == DeletionJobStatus.RUNNING)
+                && (job.getLeaseUntil() == null || job.getLeaseUntil().before(now));
+    }
+
+    private static boolean isReserved(DeletionJob job, Date reservedUntil) {
+        return job.getStatus() == DeletionJobStatus.PENDING && Objects.equals(job.getLeaseUntil(), reservedUntil);
+    }
+
+    private static boolean isHeld(DeletionJob job, Date heldLease) {
+        return job.getStatus() == DeletionJobStatus.RUNNING && Objects.equals(job.getLeaseUntil(), heldLease);
+    }
+}
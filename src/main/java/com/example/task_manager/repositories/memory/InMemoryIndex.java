@@ -0,0 +1,40 @@
+package com.example.task_manager.repositories.memory;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// ids are kept sorted so keyset pages can resume with tailSet, matching the _id order of the Mongo indexes
+public class InMemoryIndex<K> {
+    private final ConcurrentMap<K, NavigableSet<String>> entries = new ConcurrentHashMap<>();
+
+    public void add(K key, String id) {
+        if (key != null) {
+            entries.compute(key, (k, ids) -> {
+                NavigableSet<String> target = ids == null ? new ConcurrentSkipListSet<>() : ids;
+                target.add(id);
+                return target;
+            });
+        }
+    }
+
+    public void remove(K key, String id) {
+        if (key != null) {
+            entries.computeIfPresent(key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public NavigableSet<String> get(K key) {
+        NavigableSet<String> ids = key == null ? null : entries.get(key);
+        return ids == null ? Collections.emptyNavigableSet() : ids;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.task_manager.repositories.memory;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.BeansException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.ExampleMatcherAccessor;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// sorting and query by example over stored documents, following Mongo where it differs from Java:
+// nulls sort first, enums sort by their stored name, and primitive probe fields always take part
+final class InMemoryQueries {
+    private InMemoryQueries() {
+    }
+
+    // ties and unsorted requests fall back to the id, so pages are stable
+    static <T> List<T> sorted(Collection<T> documents, Sort sort, Function<T, String> idOf) {
+        List<Sort.Order> orders = sort.toList();
+        Comparator<Keyed<T>> byKeys = (left, right) -> {
+            for (int i = 0; i < orders.size(); i++) {
+                Sort.Order order = orders.get(i);
+                int compared = compare(left.keys()[i], right.keys()[i], order.isIgnoreCase());
+                if (compared != 0) {
+                    return order.isAscending() ? compared : -compared;
+                }
+            }
+            return left.id().compareTo(right.id());
+        };
+        return documents.stream()
+                .map(document -> new Keyed<>(document, keysOf(document, orders), idOf.apply(document)))
+                .sorted(byKeys)
+                .map(Keyed::document)
+                .toList();
+    }
+
+    static boolean matches(Example<?> example, Object candidate) {
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(example.getMatcher());
+        List<Boolean> results = new ArrayList<>();
+        collect(example.getProbe(), candidate, "", accessor, results);
+        if (results.isEmpty()) {
+            return true;
+        }
+        return example.getMatcher().getMatchMode() == ExampleMatcher.MatchMode.ANY
+                ? results.contains(true)
+                : !results.contains(false);
+    }
+
+    // like a Mongo field projection, properties outside the list are left unset; the id is always kept
+    // and a nested path keeps its whole top-level property
+    static <T> T projected(T document, Collection<String> fields) {
+        Set<String> kept = new HashSet<>();
+        fields.forEach(field -> kept.add(field.split("\\.", 2)[0]));
+        BeanWrapper bean = new BeanWrapperImpl(document);
+        for (PropertyDescriptor property : bean.getPropertyDescriptors()) {
+            String name = property.getName();
+            if (property.getWriteMethod() != null && !property.getPropertyType().isPrimitive()
+                    && !"id".equals(name) && !kept.contains(name)) {
+                bean.setPropertyValue(name, null);
+            }
+        }
+        return document;
+    }
+
+    private static void collect(Object probe, Object candidate, String prefix, ExampleMatcherAccessor accessor, List<Boolean> results) {
+        BeanWrapper probeBean = new BeanWrapperImpl(probe);
+        BeanWrapper candidateBean = candidate == null ? null : new BeanWrapperImpl(candidate);
+        for (PropertyDescriptor property : probeBean.getPropertyDescriptors()) {
+            String path = prefix + property.getName();
+            if (property.getReadMethod() == null || "class".equals(property.getName()) || accessor.isIgnoredPath(path)) {
+                continue;
+            }
+            Object expected = accessor.getValueTransformerForPath(path)
+                    .apply(Optional.ofNullable(probeBean.getPropertyValue(property.getName())))
+                    .orElse(null);
+            Object actual = candidateBean == null || !candidateBean.isReadableProperty(property.getName())
+                    ? null
+                    : candidateBean.getPropertyValue(property.getName());
+            if (expected == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    results.add(actual == null);
+                }
+            } else if (isValue(expected)) {
+                results.add(matchesValue(expected, actual, path, accessor));
+            } else {
+                collect(expected, actual, path + ".", accessor, results);
+            }
+        }
+    }
+
+    private static boolean matchesValue(Object expected, Object actual, String path, ExampleMatcherAccessor accessor) {
+        if (!(expected instanceof String text) || !(actual instanceof String value)) {
+            return Objects.equals(expected, actual);
+        }
+        boolean ignoreCase = accessor.isIgnoreCaseForPath(path);
+        return switch (accessor.getStringMatcherForPath(path)) {
+            case DEFAULT, EXACT -> ignoreCase ? value.equalsIgnoreCase(text) : value.equals(text);
+            case STARTING -> ignoreCase ? value.regionMatches(true, 0, text, 0, text.length()) : value.startsWith(text);
+            case ENDING -> ignoreCase
+                    ? value.regionMatches(true, value.length() - text.length(), text, 0, text.length())
+                    : value.endsWith(text);
+            case CONTAINING -> ignoreCase
+                    ? Pattern.compile(Pattern.quote(text), Pattern.CASE_INSENSITIVE).matcher(value).find()
+                    : value.contains(text);
+            case REGEX -> Pattern.compile(text, ignoreCase ? Pattern.CASE_INSENSITIVE : 0).matcher(value).find();
+        };
+    }
+
+    private static boolean isValue(Object value) {
+        return BeanUtils.isSimpleValueType(value.getClass())
+                || value instanceof Collection<?>
+                || value instanceof Map<?, ?>
+                || value.getClass().isArray()
+                || value.getClass().getName().startsWith("org.bson.");
+    }
+
+    private static Object[] keysOf(Object document, List<Sort.Order> orders) {
+        BeanWrapper bean = new BeanWrapperImpl(document);
+        Object[] keys = new Object[orders.size()];
+        for (int i = 0; i < keys.length; i++) {
+            try {
+                keys[i] = bean.getPropertyValue(orders.get(i).getProperty());
+            } catch (BeansException e) {
+                // a missing property or a null on the way to a nested one sorts like a missing field
+                keys[i] = null;
+            }
+        }
+        return keys;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right, boolean ignoreCase) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : -1) : 1;
+        }
+        if (left instanceof Enum<?> leftEnum && right instanceof Enum<?> rightEnum) {
+            return leftEnum.name().compareTo(rightEnum.name());
+        }
+        if (ignoreCase && left instanceof String leftText && right instanceof String rightText) {
+            return leftText.compareToIgnoreCase(rightText);
+        }
+        if (left instanceof Comparable comparable && left.getClass().isInstance(right)) {
+            return comparable.compareTo(right);
+        }
+        return left.getClass().getName().compareTo(right.getClass().getName());
+    }
+
+    private record Keyed<T>(T document, Object[] keys, String id) {
+    }
+}
@@ -0,0 +1,454 @@
+package com.example.task_manager.repositories.memory;
+
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import org.bson.types.ObjectId;
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// documents are copied on the way in and out, so callers mutating an entity they loaded
+// cannot bypass the secondary indexes; every write to one id runs inside ConcurrentHashMap.compute,
+// which only queues the journal entry, and the write returns once the entry has been flushed
+public abstract class InMemoryRepository<T> implements MongoRepository<T, String> {
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private final ConcurrentMap<String, T> documents = new ConcurrentHashMap<>();
+    private final String collection;
+    private final Class<T> documentType;
+    private final InMemorySnapshot snapshot;
+
+    protected InMemoryRepository(String collection, Class<T> documentType, InMemorySnapshot snapshot) {
+        this.collection = collection;
+        this.documentType = documentType;
+        this.snapshot = snapshot;
+    }
+
+    protected abstract String getId(T document);
+    protected abstract void setId(T document, String id);
+    protected abstract T copy(T document);
+    protected abstract void index(String id, T document);
+    protected abstract void unindex(String id, T document);
+
+    protected void checkConstraints(String id, T previous, T next) {
+    }
+
+    String collection() {
+        return collection;
+    }
+
+    Class<T> documentType() {
+        return documentType;
+    }
+
+    String idOf(T document) {
+        return getId(document);
+    }
+
+    List<T> documents() {
+        return new ArrayList<>(documents.values());
+    }
+
+    void restore(String id, T document) {
+        documents.compute(id, (key, previous) -> {
+            if (previous != null) {
+                unindex(key, previous);
+            }
+            if (document != null) {
+                index(key, document);
+            }
+            return document;
+        });
+    }
+
+    protected void register() {
+        snapshot.register(this);
+    }
+
+    protected Optional<T> load(String id) {
+        T document = id == null ? null : documents.get(id);
+        return document == null ? Optional.empty() : Optional.of(copy(document));
+    }
+
+    // the index may briefly lag a concurrent write, so candidates are re-checked against the stored document
+    protected Stream<T> loadAll(Collection<String> ids, Predicate<T> filter) {
+        return ids.stream()
+                .map(documents::get)
+                .filter(document -> document != null && filter.test(document))
+                .map(this::copy);
+    }
+
+    protected boolean matches(String id, Predicate<T> filter) {
+        T document = id == null ? null : documents.get(id);
+        return document != null && filter.test(document);
+    }
+
+    protected Optional<T> update(String id, Predicate<T> filter, UnaryOperator<T> change) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        AtomicReference<T> updated = new AtomicReference<>();
+        AtomicReference<CompletableFuture<Void>> journaled = new AtomicReference<>();
+        documents.computeIfPresent(id, (key, previous) -> {
+            if (!filter.test(previous)) {
+                return previous;
+            }
+            T next = change.apply(copy(previous));
+            journaled.set(write(key, previous, next));
+            updated.set(next);
+            return next;
+        });
+        awaitJournal(journaled.get());
+        return Optional.ofNullable(updated.get()).map(this::copy);
+    }
+
+    protected boolean remove(String id, Predicate<T> filter) {
+        if (id == null) {
+            return false;
+        }
+        AtomicReference<CompletableFuture<Void>> journaled = new AtomicReference<>();
+        documents.computeIfPresent(id, (key, previous) -> {
+            if (!filter.test(previous)) {
+                return previous;
+            }
+            unindex(key, previous);
+            journaled.set(snapshot.append(collection, key, null));
+            return null;
+        });
+        awaitJournal(journaled.get());
+        return journaled.get() != null;
+    }
+
+    protected static ModificationStamp stampOf(Stream<Date> modifiedAts) {
+        ModificationStamp stamp = ModificationStamp.empty();
+        modifiedAts.forEach(modifiedAt -> {
+            stamp.setCount(stamp.getCount() + 1);
+            if (modifiedAt != null) {
+                stamp.setModifiedAtSum(stamp.getModifiedAtSum() + modifiedAt.getTime());
+                if (stamp.getLastModifiedAt() == null || modifiedAt.after(stamp.getLastModifiedAt())) {
+                    stamp.setLastModifiedAt(modifiedAt);
+                }
+            }
+        });
+        return stamp;
+    }
+
+    private CompletableFuture<Void> write(String id, T previous, T next) {
+        checkConstraints(id, previous, next);
+        if (previous != null) {
+            unindex(id, previous);
+        }
+        index(id, next);
+        return snapshot.append(collection, id, next);
+    }
+
+    private static void awaitJournal(CompletableFuture<Void> journaled) {
+        if (journaled == null) {
+            return;
+        }
+        try {
+            journaled.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private <S extends T> S put(S entity, boolean insert) {
+        if (getId(entity) == null) {
+            setId(entity, new ObjectId().toHexString());
+        }
+        T stored = copy(entity);
+        AtomicReference<CompletableFuture<Void>> journaled = new AtomicReference<>();
+        documents.compute(getId(entity), (key, previous) -> {
+            if (insert && previous != null) {
+                throw new DuplicateKeyException(collection + " document " + key + " already exists");
+            }
+            journaled.set(write(key, previous, stored));
+            return stored;
+        });
+        awaitJournal(journaled.get());
+        return entity;
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        return put(entity, false);
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        return put(entity, true);
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return load(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return id != null && documents.containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return documents.values().stream().map(this::copy).toList();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .map(documents::get)
+                .filter(document -> document != null)
+                .map(this::copy)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return documents.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        remove(id, document -> true);
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(getId(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        documents.keySet().forEach(this::deleteById);
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return InMemoryQueries.sorted(documents.values(), sort, this::getId).stream().map(this::copy).toList();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return page(InMemoryQueries.sorted(documents.values(), pageable.getSort(), this::getId), pageable);
+    }
+
+    // like Mongo, more than one match is an error rather than an arbitrary pick
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        List<S> found = findAll(example);
+        if (found.size() > 1) {
+            throw new IncorrectResultSizeDataAccessException(1, found.size());
+        }
+        return found.stream().findFirst();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        return findAll(example, Sort.unsorted());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return InMemoryQueries.sorted(matching(example).toList(), sort, this::getId).stream()
+                .map(document -> (S) copy(document))
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return (Page<S>) page(InMemoryQueries.sorted(matching(example).toList(), pageable.getSort(), this::getId), pageable);
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return matching(example).count();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return matching(example).findAny().isPresent();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new FluentExampleQuery<>(example, Sort.unsorted(), 0, example.getProbeType(), List.of()));
+    }
+
+    private Stream<T> matching(Example<? extends T> example) {
+        return documents.values().stream()
+                .filter(document -> example.getProbeType().isInstance(document) && InMemoryQueries.matches(example, document));
+    }
+
+    // mirrors the Mongo fluent query: projected documents keep their id, and results convert to
+    // the entity's supertypes, to interface projections or to DTOs with a no-argument constructor
+    private class FluentExampleQuery<R> implements FluentQuery.FetchableFluentQuery<R> {
+        private final Example<? extends T> example;
+        private final Sort sort;
+        private final int limit;
+        private final Class<R> resultType;
+        private final List<String> fields;
+
+        private FluentExampleQuery(Example<? extends T> example, Sort sort, int limit, Class<R> resultType, List<String> fields) {
+            this.example = example;
+            this.sort = sort;
+            this.limit = limit;
+            this.resultType = resultType;
+            this.fields = fields;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> sortBy(Sort sort) {
+            return new FluentExampleQuery<>(example, this.sort.and(sort), limit, resultType, fields);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit must not be negative");
+            }
+            return new FluentExampleQuery<>(example, sort, limit, resultType, fields);
+        }
+
+        @Override
+        public <P> FluentQuery.FetchableFluentQuery<P> as(Class<P> resultType) {
+            return new FluentExampleQuery<>(example, sort, limit, resultType, fields);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> project(Collection<String> properties) {
+            return new FluentExampleQuery<>(example, sort, limit, resultType, List.copyOf(properties));
+        }
+
+        @Override
+        public R oneValue() {
+            List<T> found = matched(sort);
+            if (found.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1, found.size());
+            }
+            return found.isEmpty() ? null : result(found.get(0));
+        }
+
+        @Override
+        public R firstValue() {
+            List<T> found = matched(sort);
+            return found.isEmpty() ? null : result(found.get(0));
+        }
+
+        @Override
+        public List<R> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Page<R> page(Pageable pageable) {
+            List<T> sorted = matched(pageable.getSort().isSorted() ? pageable.getSort() : sort);
+            if (pageable.isUnpaged()) {
+                return new PageImpl<>(sorted.stream().map(this::result).toList());
+            }
+            List<R> content = sorted.stream()
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .map(this::result)
+                    .toList();
+            return new PageImpl<>(content, pageable, sorted.size());
+        }
+
+        @Override
+        public Stream<R> stream() {
+            return matched(sort).stream().map(this::result);
+        }
+
+        @Override
+        public long count() {
+            return matched(Sort.unsorted()).size();
+        }
+
+        @Override
+        public boolean exists() {
+            return matching(example).findAny().isPresent();
+        }
+
+        private List<T> matched(Sort order) {
+            List<T> sorted = InMemoryQueries.sorted(matching(example).toList(), order, InMemoryRepository.this::getId);
+            return limit > 0 && sorted.size() > limit ? sorted.subList(0, limit) : sorted;
+        }
+
+        @SuppressWarnings("unchecked")
+        private R result(T stored) {
+            T document = fields.isEmpty() ? copy(stored) : InMemoryQueries.projected(copy(stored), fields);
+            if (resultType.isInstance(document)) {
+                return (R) document;
+            }
+            if (resultType.isInterface()) {
+                return PROJECTIONS.createProjection(resultType, document);
+            }
+            R dto = BeanUtils.instantiateClass(resultType);
+            BeanUtils.copyProperties(document, dto);
+            return dto;
+        }
+    }
+
+    private Page<T> page(List<T> sorted, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted.stream().map(this::copy).toList());
+        }
+        List<T> content = sorted.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::copy)
+                .toList();
+        return new PageImpl<>(content, pageable, sorted.size());
+    }
+}
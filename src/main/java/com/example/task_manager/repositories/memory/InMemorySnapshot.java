@@ -0,0 +1,241 @@
+package com.example.task_manager.repositories.memory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// every write is appended as one NDJSON line and replayed on startup; on shutdown the file
+// is compacted to the live documents so the next replay only reads the current state.
+// writes are queued and a single writer appends them in batches with one flush per batch, so
+// concurrent writers share a flush instead of taking turns; each write still waits for its batch
+@Slf4j
+@Component
+@Profile("in-memory")
+public class InMemorySnapshot implements SmartInitializingSingleton {
+    private static final int MAX_BATCH = 1024;
+    private static final CompletableFuture<Void> NOT_JOURNALED = CompletableFuture.completedFuture(null);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+    private final Map<String, InMemoryRepository<?>> repositories = new ConcurrentHashMap<>();
+    private final BlockingQueue<Pending> pending = new LinkedBlockingQueue<>();
+    private final Thread journalWriter;
+    private volatile boolean closed;
+    private BufferedWriter writer;
+
+    public InMemorySnapshot(
+            ObjectMapper objectMapper,
+            @Value("${task-manager.in-memory.snapshot-file:}") String file
+    ) {
+        this.objectMapper = objectMapper;
+        this.file = file.isBlank() ? null : Path.of(file);
+        if (this.file == null) {
+            this.journalWriter = null;
+            return;
+        }
+        this.journalWriter = new Thread(this::writeBatches, "in-memory-journal");
+        journalWriter.setDaemon(true);
+        journalWriter.start();
+    }
+
+    public <T> void register(InMemoryRepository<T> repository) {
+        repositories.put(repository.collection(), repository);
+    }
+
+    // replays the journal in one pass once every repository has registered
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+
+        Map<String, Long> restored = new TreeMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Entry entry;
+                try {
+                    entry = objectMapper.readValue(line, Entry.class);
+                } catch (IOException e) {
+                    log.warn("[InMemorySnapshot] Skipping unreadable line {} of {}", lineNumber, file);
+                    continue;
+                }
+                InMemoryRepository<?> repository = repositories.get(entry.collection());
+                if (repository == null) {
+                    continue;
+                }
+                restore(repository, entry);
+                restored.merge(entry.collection(), 1L, Long::sum);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("[InMemorySnapshot] Replayed {} from {}", restored, file);
+    }
+
+    // called inside the repository's compute, so it only enqueues; the caller waits on the result afterwards
+    public CompletableFuture<Void> append(String collection, String id, Object document) {
+        if (file == null) {
+            return NOT_JOURNALED;
+        }
+        if (closed) {
+            throw new IllegalStateException("The in-memory journal " + file + " is closed");
+        }
+        Pending entry = new Pending(collection, id, document, new CompletableFuture<>());
+        pending.add(entry);
+        return entry.written();
+    }
+
+    @PreDestroy
+    public synchronized void compact() throws IOException {
+        if (file == null || closed) {
+            return;
+        }
+        closed = true;
+        try {
+            journalWriter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Pending> late = new ArrayList<>();
+        pending.drainTo(late);
+        write(late);
+        closeWriter();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long written = 0;
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (InMemoryRepository<?> repository : repositories.values()) {
+                written += writeDocuments(out, repository);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("[InMemorySnapshot] Compacted {} to {} documents", file, written);
+    }
+
+    private void writeBatches() {
+        List<Pending> batch = new ArrayList<>();
+        while (!closed || !pending.isEmpty()) {
+            Pending first;
+            try {
+                first = pending.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            pending.drainTo(batch, MAX_BATCH - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Pending> serialized = new ArrayList<>(batch.size());
+        List<String> lines = new ArrayList<>(batch.size());
+        for (Pending entry : batch) {
+            try {
+                lines.add(objectMapper.writeValueAsString(new Entry(entry.collection(), entry.id(),
+                        entry.document() == null ? null : objectMapper.valueToTree(entry.document()))));
+                serialized.add(entry);
+            } catch (IOException | IllegalArgumentException e) {
+                entry.written().completeExceptionally(new IllegalStateException(
+                        "Unable to journal " + entry.collection() + " document " + entry.id(), e));
+            }
+        }
+        try {
+            BufferedWriter out = writer();
+            for (String line : lines) {
+                out.write(line);
+                out.newLine();
+            }
+            out.flush();
+            serialized.forEach(entry -> entry.written().complete(null));
+        } catch (IOException e) {
+            log.error("[InMemorySnapshot] Failed to append {} entries to {}", serialized.size(), file, e);
+            UncheckedIOException failure = new UncheckedIOException(e);
+            serialized.forEach(entry -> entry.written().completeExceptionally(failure));
+        }
+    }
+
+    private <T> void restore(InMemoryRepository<T> repository, Entry entry) throws IOException {
+        T document = entry.document() == null || entry.document().isNull()
+                ? null
+                : objectMapper.treeToValue(entry.document(), repository.documentType());
+        repository.restore(entry.id(), document);
+    }
+
+    private <T> long writeDocuments(BufferedWriter out, InMemoryRepository<T> repository) throws IOException {
+        long written = 0;
+        for (T document : repository.documents()) {
+            out.write(objectMapper.writeValueAsString(new Entry(
+                    repository.collection(),
+                    repository.idOf(document),
+                    objectMapper.valueToTree(document))));
+            out.newLine();
+            written++;
+        }
+        return written;
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (writer == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        return writer;
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    record Entry(String collection, String id, JsonNode document) {
+    }
+
+    // stored documents are never mutated once written, so serializing them on the writer thread is safe
+    private record Pending(String collection, String id, Object document, CompletableFuture<Void> written) {
+    }
+}
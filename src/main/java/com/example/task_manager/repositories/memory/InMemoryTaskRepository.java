@@ -0,0 +1,338 @@
+package com.example.task_manager.repositories.memory;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TaskSearchQuery;
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryTaskRepository extends InMemoryRepository<Task> implements TaskRepository {
+    private final InMemoryIndex<Key> byTeamIdAndType = new InMemoryIndex<>();
+    private final InMemoryIndex<Key> byAssignedUserIdAndType = new InMemoryIndex<>();
+
+    public InMemoryTaskRepository(InMemorySnapshot snapshot) {
+        super("Task", Task.class, snapshot);
+        register();
+    }
+
+    @Override
+    protected String getId(Task task) {
+        return task.getId();
+    }
+
+    @Override
+    protected void setId(Task task, String id) {
+        task.setId(id);
+    }
+
+    @Override
+    protected Task copy(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .type(task.getType())
+                .priority(task.getPriority())
+                .status(task.getStatus())
+                .assignedUsersId(task.getAssignedUsersId() == null ? null : new ArrayList<>(task.getAssignedUsersId()))
+                .teamId(task.getTeamId())
+                .start(task.getStart())
+                .end(task.getEnd())
+                .createdAt(task.getCreatedAt())
+                .modifiedAt(task.getModifiedAt())
+                .build();
+    }
+
+    @Override
+    protected void index(String id, Task task) {
+        if (task.getTeamId() != null) {
+            byTeamIdAndType.add(new Key(task.getTeamId(), task.getType()), id);
+        }
+        if (task.getAssignedUsersId() != null) {
+            task.getAssignedUsersId().forEach(userId -> byAssignedUserIdAndType.add(new Key(userId, task.getType()), id));
+        }
+    }
+
+    @Override
+    protected void unindex(String id, Task task) {
+        if (task.getTeamId() != null) {
+            byTeamIdAndType.remove(new Key(task.getTeamId(), task.getType()), id);
+        }
+        if (task.getAssignedUsersId() != null) {
+            task.getAssignedUsersId().forEach(userId -> byAssignedUserIdAndType.remove(new Key(userId, task.getType()), id));
+        }
+    }
+
+    @Override
+    public boolean existsByIdAndType(String id, TaskType type) {
+        return matches(id, task -> task.getType() == type);
+    }
+
+    @Override
+    public Optional<Task> findTeamRefById(String id) {
+        return findById(id).map(InMemoryTaskRepository::teamRef);
+    }
+
+    @Override
+    public Optional<Task> findAccessRefById(String id) {
+        return findById(id).map(task -> Task.builder()
+                .id(task.getId())
+                .teamId(task.getTeamId())
+                .type(task.getType())
+                .assignedUsersId(task.getAssignedUsersId())
+                .build());
+    }
+
+    @Override
+    public Optional<Task> findAssigneesByIdAndType(String id, TaskType type) {
+        return findById(id)
+                .filter(task -> task.getType() == type)
+                .map(task -> Task.builder()
+                        .id(task.getId())
+                        .assignedUsersId(task.getAssignedUsersId())
+                        .build());
+    }
+
+    @Override
+    public List<Task> findByTeamIdAndType(String teamId, TaskType type) {
+        return streamByTeamIdAndType(teamId, type).toList();
+    }
+
+    @Override
+    public List<Task> findByAssignedUsersIdAndType(String id, TaskType type) {
+        return streamByAssignedUsersIdAndType(id, type).toList();
+    }
+
+    @Override
+    public List<Task> findByTeamIdAndTypeOrderByIdAsc(String teamId, TaskType type, Limit limit) {
+        return limit(teamTasks(teamId, type, byTeamIdAndType.get(new Key(teamId, type))), limit);
+    }
+
+    @Override
+    public List<Task> findByTeamIdAndTypeAndIdGreaterThanOrderByIdAsc(String teamId, TaskType type, String lastId, Limit limit) {
+        return limit(teamTasks(teamId, type, byTeamIdAndType.get(new Key(teamId, type)).tailSet(lastId, false)), limit);
+    }
+
+    @Override
+    public List<Task> findByAssignedUsersIdAndTypeOrderByIdAsc(String id, TaskType type, Limit limit) {
+        return limit(userTasks(id, type, byAssignedUserIdAndType.get(new Key(id, type))), limit);
+    }
+
+    @Override
+    public List<Task> findByAssignedUsersIdAndTypeAndIdGreaterThanOrderByIdAsc(String id, TaskType type, String lastId, Limit limit) {
+        return limit(userTasks(id, type, byAssignedUserIdAndType.get(new Key(id, type)).tailSet(lastId, false)), limit);
+    }
+
+    @Override
+    public Stream<Task> streamByTeamIdAndType(String teamId, TaskType type) {
+        return teamTasks(teamId, type, byTeamIdAndType.get(new Key(teamId, type)));
+    }
+
+    @Override
+    public Stream<Task> streamByAssignedUsersIdAndType(String id, TaskType type) {
+        return userTasks(id, type, byAssignedUserIdAndType.get(new Key(id, type)));
+    }
+
+    @Override
+    public void deleteByIdAndTeamIdAndType(String id, String teamId, TaskType type) {
+        remove(id, task -> Objects.equals(task.getTeamId(), teamId) && task.getType() == type);
+    }
+
+    @Override
+    public void insertUnordered(List<Task> tasks) {
+        tasks.forEach(this::insert);
+    }
+
+    @Override
+    public boolean addAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt) {
+        return update(taskId, task -> task.getType() == type && !isAssignedTo(task, userId, type), task -> {
+            List<String> assigned = task.getAssignedUsersId() == null ? new ArrayList<>() : task.getAssignedUsersId();
+            assigned.add(userId);
+            task.setAssignedUsersId(assigned);
+            task.setModifiedAt(modifiedAt);
+            return task;
+        }).isPresent();
+    }
+
+    @Override
+    public Optional<Task> removeAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt) {
+        return update(taskId, task -> isAssignedTo(task, userId, type), task -> withoutUser(task, userId, modifiedAt))
+                .map(InMemoryTaskRepository::teamRef);
+    }
+
+    @Override
+    public Optional<Task> updateFields(String taskId, Map<String, Object> fields, Date modifiedAt) {
+        return update(taskId, task -> hasValidRange(task, fields), task -> {
+            fields.forEach((field, value) -> apply(task, field, value));
+            task.setModifiedAt(modifiedAt);
+            return task;
+        });
+    }
+
+    @Override
+    public ModificationStamp findModificationStampByTeamIdAndType(String teamId, TaskType type) {
+        return stampOf(streamByTeamIdAndType(teamId, type).map(Task::getModifiedAt));
+    }
+
+    @Override
+    public List<String> findIdsByTeamId(String teamId, int limit) {
+        return Stream.of(TaskType.values())
+                .flatMap(type -> teamTasks(teamId, type, byTeamIdAndType.get(new Key(teamId, type))))
+                .map(Task::getId)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public List<String> findIdsByAssignedUsersIdAndType(String userId, TaskType type, int limit) {
+        return streamByAssignedUsersIdAndType(userId, type)
+                .map(Task::getId)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public long removeAssignedUserFromIds(Collection<String> taskIds, String userId, Date modifiedAt) {
+        return taskIds.stream()
+                .filter(id -> update(id, task -> task.getAssignedUsersId() != null && task.getAssignedUsersId().contains(userId),
+                        task -> withoutUser(task, userId, modifiedAt)).isPresent())
+                .count();
+    }
+
+    // text matching compares whole words case-insensitively, without the stemming and stop words of the Mongo text index
+    @Override
+    public List<Task> search(TaskSearchQuery search) {
+        Set<String> terms = search.getText() == null ? Set.of() : words(search.getText());
+        Comparator<Task> order = search.getDirection().isAscending()
+                ? searchOrder(search.getSort())
+                : searchOrder(search.getSort()).reversed();
+        Task after = search.getAfter() == null ? null : Task.builder()
+                .id(search.getAfter().lastId())
+                .start(search.getAfter().lastValue())
+                .end(search.getAfter().lastValue())
+                .build();
+
+        return search.getTypes().stream()
+                .flatMap(type -> search.getTeamId() != null
+                        ? teamTasks(search.getTeamId(), type, byTeamIdAndType.get(new Key(search.getTeamId(), type)))
+                        : userTasks(search.getAssigneeId(), type, byAssignedUserIdAndType.get(new Key(search.getAssigneeId(), type))))
+                .filter(task -> search.getAssigneeId() == null || isAssignedTo(task, search.getAssigneeId(), task.getType()))
+                .filter(task -> isEmpty(search.getStatuses()) || search.getStatuses().contains(task.getStatus()))
+                .filter(task -> isEmpty(search.getPriorities()) || search.getPriorities().contains(task.getPriority()))
+                .filter(task -> isWithin(task.getStart(), search.getStartFrom(), search.getStartTo()))
+                .filter(task -> isWithin(task.getEnd(), search.getEndFrom(), search.getEndTo()))
+                .filter(task -> terms.isEmpty() || containsAnyWord(task, terms))
+                .filter(task -> after == null || order.compare(task, after) > 0)
+                .sorted(order)
+                .limit(search.getLimit())
+                .toList();
+    }
+
+    private Stream<Task> teamTasks(String teamId, TaskType type, Collection<String> ids) {
+        return loadAll(ids, task -> Objects.equals(task.getTeamId(), teamId) && task.getType() == type);
+    }
+
+    private Stream<Task> userTasks(String userId, TaskType type, Collection<String> ids) {
+        return loadAll(ids, task -> isAssignedTo(task, userId, type));
+    }
+
+    private static Task teamRef(Task task) {
+        return Task.builder()
+                .id(task.getId())
+                .teamId(task.getTeamId())
+                .type(task.getType())
+                .build();
+    }
+
+    private static List<Task> limit(Stream<Task> tasks, Limit limit) {
+        return (limit.isLimited() ? tasks.limit(limit.max()) : tasks).toList();
+    }
+
+    private static boolean isAssignedTo(Task task, String userId, TaskType type) {
+        return task.getType() == type && task.getAssignedUsersId() != null && task.getAssignedUsersId().contains(userId);
+    }
+
+    private static Task withoutUser(Task task, String userId, Date modifiedAt) {
+        task.getAssignedUsersId().removeIf(userId::equals);
+        task.setModifiedAt(modifiedAt);
+        return task;
+    }
+
+    private static Comparator<Task> searchOrder(TaskSortField sort) {
+        Comparator<Task> byId = Comparator.comparing(Task::getId);
+        return switch (sort) {
+            case ID -> byId;
+            case START -> Comparator.comparing(Task::getStart, Comparator.nullsFirst(Comparator.<Date>naturalOrder())).thenComparing(byId);
+            case END -> Comparator.comparing(Task::getEnd, Comparator.nullsFirst(Comparator.<Date>naturalOrder())).thenComparing(byId);
+        };
+    }
+
+    private static boolean isWithin(Date value, Date from, Date to) {
+        if (from == null && to == null) {
+            return true;
+        }
+        return value != null && (from == null || !value.before(from)) && (to == null || !value.after(to));
+    }
+
+    private static boolean containsAnyWord(Task task, Set<String> terms) {
+        Set<String> words = words(task.getTitle() + " " + task.getDescription());
+        return terms.stream().anyMatch(words::contains);
+    }
+
+    private static Set<String> words(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean isEmpty(Collection<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static boolean hasValidRange(Task task, Map<String, Object> fields) {
+        if (fields.containsKey("start") && !fields.containsKey("end")) {
+            return task.getEnd() != null && !task.getEnd().before((Date) fields.get("start"));
+        }
+        if (fields.containsKey("end") && !fields.containsKey("start")) {
+            return task.getStart() != null && !task.getStart().after((Date) fields.get("end"));
+        }
+        return true;
+    }
+
+    private static void apply(Task task, String field, Object value) {
+        switch (field) {
+            case "title" -> task.setTitle((String) value);
+            case "description" -> task.setDescription((String) value);
+            case "priority" -> task.setPriority((TaskPriority) value);
+            case "status" -> task.setStatus((TaskStatus) value);
+            case "start" -> task.setStart((Date) value);
+            case "end" -> task.setEnd((Date) value);
+            default -> throw new IllegalArgumentException("Unsupported task field: " + field);
+        }
+    }
+
+    private record Key(String value, TaskType type) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.task_manager.repositories.memory;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import com.example.task_manager.repositories.projections.TeamWithCollections;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryTeamRepository extends InMemoryRepository<Team> implements TeamRepository {
+    private final InMemoryIndex<String> byOwnerId = new InMemoryIndex<>();
+    private final InMemoryIndex<String> byMemberId = new InMemoryIndex<>();
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+
+    public InMemoryTeamRepository(
+            InMemorySnapshot snapshot,
+            UserRepository userRepository,
+            TaskRepository taskRepository
+    ) {
+        super("Team", Team.class, snapshot);
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        register();
+    }
+
+    @Override
+    protected String getId(Team team) {
+        return team.getId();
+    }
+
+    @Override
+    protected void setId(Team team, String id) {
+        team.setId(id);
+    }
+
+    @Override
+    protected Team copy(Team team) {
+        return Team.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .ownerId(team.getOwnerId())
+                .membersId(team.getMembersId() == null ? null : new ArrayList<>(team.getMembersId()))
+                .createdAt(team.getCreatedAt())
+                .modifiedAt(team.getModifiedAt())
+                .deletionJobId(team.getDeletionJobId())
+                .build();
+    }
+
+    @Override
+    protected void index(String id, Team team) {
+        byOwnerId.add(team.getOwnerId(), id);
+        if (team.getMembersId() != null) {
+            team.getMembersId().forEach(memberId -> byMemberId.add(memberId, id));
+        }
+    }
+
+    @Override
+    protected void unindex(String id, Team team) {
+        byOwnerId.remove(team.getOwnerId(), id);
+        if (team.getMembersId() != null) {
+            team.getMembersId().forEach(memberId -> byMemberId.remove(memberId, id));
+        }
+    }
+
+    @Override
+    public List<Team> findByOwnerIdAndDeletionJobIdIsNull(String ownerId) {
+        return loadAll(byOwnerId.get(ownerId), team -> Objects.equals(team.getOwnerId(), ownerId) && team.getDeletionJobId() == null)
+                .toList();
+    }
+
+    @Override
+    public boolean existsByOwnerId(String ownerId) {
+        return byOwnerId.get(ownerId).stream().anyMatch(id -> matches(id, team -> Objects.equals(team.getOwnerId(), ownerId)));
+    }
+
+    @Override
+    public List<TeamWithCollections> findTeamsWithCollectionsByOwnerId(String ownerId, int taskLimit) {
+        return findByOwnerIdAndDeletionJobIdIsNull(ownerId).stream()
+                .map(team -> TeamWithCollections.builder()
+                        .id(team.getId())
+                        .name(team.getName())
+                        .ownerId(team.getOwnerId())
+                        .membersId(team.getMembersId())
+                        .members(team.getMembersId() == null ? List.of() : userRepository.findByIdInAndDeletionJobIdIsNull(team.getMembersId()))
+                        .tasks(tasksOf(team.getId(), taskLimit))
+                        .createdAt(team.getCreatedAt())
+                        .modifiedAt(team.getModifiedAt())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public long removeMemberFromAll(String userId, Date modifiedAt) {
+        return List.copyOf(byMemberId.get(userId)).stream()
+                .filter(id -> update(id, team -> isMember(team, userId), team -> {
+                    team.getMembersId().removeIf(userId::equals);
+                    team.setModifiedAt(modifiedAt);
+                    return team;
+                }).isPresent())
+                .count();
+    }
+
+    @Override
+    public ModificationStamp findModificationStampByOwnerId(String ownerId) {
+        return stampOf(findByOwnerIdAndDeletionJobIdIsNull(ownerId).stream().flatMap(team -> Stream.of(
+                Stream.of(team.getModifiedAt()),
+                team.getMembersId() == null
+                        ? Stream.<Date>empty()
+                        : userRepository.findByIdInAndDeletionJobIdIsNull(team.getMembersId()).stream().map(User::getModifiedAt),
+                taskRepository.streamByTeamIdAndType(team.getId(), TaskType.TEAM).map(Task::getModifiedAt)
+        ).flatMap(Function.identity())));
+    }
+
+    @Override
+    public boolean existsByIdAndDeletionJobIdIsNull(String id) {
+        return matches(id, team -> team.getDeletionJobId() == null);
+    }
+
+    @Override
+    public boolean existsByIdAndMembersIdAndDeletionJobIdIsNull(String id, String userId) {
+        return matches(id, team -> team.getDeletionJobId() == null && isMember(team, userId));
+    }
+
+    @Override
+    public boolean markPendingDeletion(String teamId, String deletionJobId, Date modifiedAt) {
+        return update(teamId, team -> team.getDeletionJobId() == null, team -> {
+            team.setDeletionJobId(deletionJobId);
+            team.setModifiedAt(modifiedAt);
+            return team;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean clearPendingDeletion(String teamId, String deletionJobId, Date modifiedAt) {
+        return update(teamId, team -> Objects.equals(team.getDeletionJobId(), deletionJobId), team -> {
+            team.setDeletionJobId(null);
+            team.setModifiedAt(modifiedAt);
+            return team;
+        }).isPresent();
+    }
+
+    private List<Task> tasksOf(String teamId, int taskLimit) {
+        return taskLimit > 0
+                ? taskRepository.findByTeamIdAndTypeOrderByIdAsc(teamId, TaskType.TEAM, Limit.of(taskLimit + 1))
+                : taskRepository.findByTeamIdAndType(teamId, TaskType.TEAM);
+    }
+
+    private static boolean isMember(Team team, String userId) {
+        return team.getMembersId() != null && team.getMembersId().contains(userId);
+    }
+}
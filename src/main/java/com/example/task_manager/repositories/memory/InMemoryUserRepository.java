@@ -0,0 +1,123 @@
+package com.example.task_manager.repositories.memory;
+
+import com.example.task_manager.entities.User;
+import com.example.task_manager.repositories.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Repository
+@Profile("in-memory")
+public class InMemoryUserRepository extends InMemoryRepository<User> implements UserRepository {
+    private final ConcurrentMap<String, String> byUsername = new ConcurrentHashMap<>();
+
+    public InMemoryUserRepository(InMemorySnapshot snapshot) {
+        super("User", User.class, snapshot);
+        register();
+    }
+
+    @Override
+    protected String getId(User user) {
+        return user.getId();
+    }
+
+    @Override
+    protected void setId(User user, String id) {
+        user.setId(id);
+    }
+
+    @Override
+    protected User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .firstname(user.getFirstname())
+                .lastname(user.getLastname())
+                .createdAt(user.getCreatedAt())
+                .modifiedAt(user.getModifiedAt())
+                .deletionJobId(user.getDeletionJobId())
+                .build();
+    }
+
+    // claims the username before the document is written, mirroring the unique index on User.username
+    @Override
+    protected void checkConstraints(String id, User previous, User next) {
+        if (next.getUsername() == null) {
+            return;
+        }
+        String owner = byUsername.putIfAbsent(next.getUsername(), id);
+        if (owner != null && !owner.equals(id)) {
+            throw new DuplicateKeyException("Username " + next.getUsername() + " already exists");
+        }
+    }
+
+    @Override
+    protected void index(String id, User user) {
+        if (user.getUsername() != null) {
+            byUsername.put(user.getUsername(), id);
+        }
+    }
+
+    @Override
+    protected void unindex(String id, User user) {
+        if (user.getUsername() != null) {
+            byUsername.remove(user.getUsername(), id);
+        }
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        return username == null
+                ? Optional.empty()
+                : Optional.ofNullable(byUsername.get(username))
+                        .flatMap(this::load)
+                        .filter(user -> Objects.equals(user.getUsername(), username));
+    }
+
+    @Override
+    public List<User> findByIdInAndDeletionJobIdIsNull(Collection<String> ids) {
+        return loadAll(ids, user -> user.getDeletionJobId() == null).toList();
+    }
+
+    @Override
+    public boolean replacePasswordHash(String userId, String expectedHash, String newHash) {
+        return update(userId, user -> Objects.equals(user.getPassword(), expectedHash), user -> {
+            user.setPassword(newHash);
+            return user;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean existsByIdAndDeletionJobIdIsNull(String id) {
+        return matches(id, user -> user.getDeletionJobId() == null);
+    }
+
+    @Override
+    public boolean markPendingDeletion(String userId, String deletionJobId, Date modifiedAt) {
+        return update(userId, user -> user.getDeletionJobId() == null, user -> {
+            user.setDeletionJobId(deletionJobId);
+            user.setModifiedAt(modifiedAt);
+            return user;
+        }).isPresent();
+    }
+
+    @Override
+    public boolean clearPendingDeletion(String userId, String deletionJobId, Date modifiedAt) {
+        return update(userId, user -> Objects.equals(user.getDeletionJobId(), deletionJobId), user -> {
+            user.setDeletionJobId(null);
+            user.setModifiedAt(modifiedAt);
+            return user;
+        }).isPresent();
+    }
+}
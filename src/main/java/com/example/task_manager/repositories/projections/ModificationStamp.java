@@ -0,0 +1,22 @@
+package com.example.task_manager.repositories.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModificationStamp {
+    private long count;
+    private long modifiedAtSum;
+    private Date lastModifiedAt;
+
+    public static ModificationStamp empty() {
+        return new ModificationStamp(0, 0, null);
+    }
+}
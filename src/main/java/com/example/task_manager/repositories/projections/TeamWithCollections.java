@@ -0,0 +1,28 @@
+package com.example.task_manager.repositories.projections;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.util.Date;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamWithCollections {
+    @Id
+    private String id;
+    private String name;
+    private String ownerId;
+    private List<String> membersId;
+    private List<User> members;
+    private List<Task> tasks;
+    private Date createdAt;
+    private Date modifiedAt;
+}
@@ -0,0 +1,22 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskType;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String>, ReactiveTaskRepositoryCustom {
+    Mono<Boolean> existsByIdAndType(String id, TaskType type);
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'teamId': 1, 'type': 1 }")
+    Mono<Task> findTeamRefById(String id);
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'teamId': 1, 'type': 1, 'assignedUsersId': 1 }")
+    Mono<Task> findAccessRefById(String id);
+    Flux<Task> findByTeamIdAndType(String teamId, TaskType type);
+    Flux<Task> findByAssignedUsersIdAndType(String id, TaskType type);
+    Mono<Void> deleteByIdAndTeamIdAndType(String id, String teamId, TaskType type);
+    Mono<Void> deleteByTeamId(String teamId);
+}
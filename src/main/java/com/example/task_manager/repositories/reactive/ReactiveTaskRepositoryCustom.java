@@ -0,0 +1,10 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.enums.TaskType;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+public interface ReactiveTaskRepositoryCustom {
+    Mono<Boolean> addAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt);
+}
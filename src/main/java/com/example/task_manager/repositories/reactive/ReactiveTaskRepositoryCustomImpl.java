@@ -0,0 +1,31 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskType;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveTaskRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<Boolean> addAssignedUser(String taskId, TaskType type, String userId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(taskId)
+                .and("type").is(type)
+                .and("assignedUsersId").ne(userId));
+        Update update = new Update()
+                .addToSet("assignedUsersId", userId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, Task.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.entities.Team;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveTeamRepository extends ReactiveMongoRepository<Team, String>, ReactiveTeamRepositoryCustom {
+    Flux<Team> findByOwnerId(String ownerId);
+    Mono<Boolean> existsByIdAndMembersIdAndDeletionJobIdIsNull(String id, String userId);
+}
@@ -0,0 +1,13 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.repositories.projections.TeamWithCollections;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+public interface ReactiveTeamRepositoryCustom {
+    Flux<TeamWithCollections> findTeamsWithCollectionsByOwnerId(String ownerId, int taskLimit);
+    Mono<Boolean> addMember(String teamId, String userId, Date modifiedAt);
+    Mono<Boolean> updateModifiedAt(String teamId, Date modifiedAt);
+}
@@ -0,0 +1,53 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.repositories.TeamAggregations;
+import com.example.task_manager.repositories.projections.TeamWithCollections;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+
+public class ReactiveTeamRepositoryCustomImpl implements ReactiveTeamRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveTeamRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Flux<TeamWithCollections> findTeamsWithCollectionsByOwnerId(String ownerId, int taskLimit) {
+        Aggregation aggregation = TeamAggregations.teamsWithCollectionsByOwnerId(
+                ownerId,
+                taskLimit,
+                mongoTemplate.getCollectionName(User.class),
+                mongoTemplate.getCollectionName(Task.class)
+        );
+        return mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Team.class), TeamWithCollections.class);
+    }
+
+    @Override
+    public Mono<Boolean> addMember(String teamId, String userId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(teamId).and("membersId").ne(userId));
+        Update update = new Update()
+                .addToSet("membersId", userId)
+                .set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, Team.class)
+                .map(result -> result.getModifiedCount() > 0);
+    }
+
+    @Override
+    public Mono<Boolean> updateModifiedAt(String teamId, Date modifiedAt) {
+        Query query = Query.query(Criteria.where("id").is(teamId));
+        Update update = new Update().set("modifiedAt", modifiedAt);
+        return mongoTemplate.updateFirst(query, update, Team.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.task_manager.repositories.reactive;
+
+import com.example.task_manager.entities.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+    Flux<User> findByIdInAndDeletionJobIdIsNull(Collection<String> ids);
+}
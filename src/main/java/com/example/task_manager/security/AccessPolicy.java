@@ -0,0 +1,97 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.DeletionResourceType;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.DeletionJobRepository;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.services.ITeamService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// ownership rules for routes scoped by a path variable: a user route is only for that user,
+// a team route only for the team's members; the principal name is the user ID from the token.
+// memberships come from TeamMembershipCache, so only task and job routes look anything up per request.
+// a task or job that does not exist is let through, so the handler answers 404 as before
+@Component
+@Profile("!reactive")
+public class AccessPolicy {
+    private final ITeamService teamService;
+    private final TaskRepository taskRepository;
+    private final DeletionJobRepository deletionJobRepository;
+
+    public AccessPolicy(ITeamService teamService, TaskRepository taskRepository, DeletionJobRepository deletionJobRepository) {
+        this.teamService = teamService;
+        this.taskRepository = taskRepository;
+        this.deletionJobRepository = deletionJobRepository;
+    }
+
+    public AuthorizationManager<RequestAuthorizationContext> self(String userIdVariable) {
+        return (authentication, context) -> new AuthorizationDecision(
+                isUser(authentication.get()) && authentication.get().getName().equals(context.getVariables().get(userIdVariable)));
+    }
+
+    public AuthorizationManager<RequestAuthorizationContext> teamMember(String teamIdVariable) {
+        return (authentication, context) -> {
+            String teamId = context.getVariables().get(teamIdVariable);
+            return new AuthorizationDecision(isUser(authentication.get()) && teamId != null
+                    && teamService.isTeamMember(teamId, authentication.get().getName()));
+        };
+    }
+
+    // a team task belongs to its team's members, a personal task to the users it is assigned to
+    public AuthorizationManager<RequestAuthorizationContext> taskOwner(String taskIdVariable) {
+        return (authentication, context) -> {
+            if (!isUser(authentication.get())) {
+                return new AuthorizationDecision(false);
+            }
+            String userId = authentication.get().getName();
+            Optional<Task> task = taskRepository.findAccessRefById(context.getVariables().get(taskIdVariable));
+            return new AuthorizationDecision(task.isEmpty() || (task.get().getType() == TaskType.TEAM
+                    ? task.get().getTeamId() != null && teamService.isTeamMember(task.get().getTeamId(), userId)
+                    : task.get().getAssignedUsersId() != null && task.get().getAssignedUsersId().contains(userId)));
+        };
+    }
+
+    // a search is scoped by its teamId or assigneeId parameters; an unscoped one is rejected by validation
+    public AuthorizationManager<RequestAuthorizationContext> searchScope() {
+        return (authentication, context) -> {
+            if (!isUser(authentication.get())) {
+                return new AuthorizationDecision(false);
+            }
+            String userId = authentication.get().getName();
+            String teamId = context.getRequest().getParameter("teamId");
+            String assigneeId = context.getRequest().getParameter("assigneeId");
+            return new AuthorizationDecision(teamId != null
+                    ? teamService.isTeamMember(teamId, userId)
+                    : assigneeId == null || assigneeId.equals(userId));
+        };
+    }
+
+    // a job can be followed by whoever asked for it, and a user deletion also by that user
+    public AuthorizationManager<RequestAuthorizationContext> deletionJobRequester(String jobIdVariable) {
+        return (authentication, context) -> {
+            if (!isUser(authentication.get())) {
+                return new AuthorizationDecision(false);
+            }
+            String userId = authentication.get().getName();
+            Optional<DeletionJob> job = deletionJobRepository.findById(context.getVariables().get(jobIdVariable));
+            return new AuthorizationDecision(job.isEmpty()
+                    || userId.equals(job.get().getRequestedBy())
+                    || (job.get().getResourceType() == DeletionResourceType.USER && userId.equals(job.get().getResourceId())));
+        };
+    }
+
+    private static boolean isUser(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+}
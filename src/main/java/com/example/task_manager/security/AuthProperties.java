@@ -0,0 +1,16 @@
+package com.example.task_manager.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "task-manager.auth")
+public class AuthProperties {
+    private Duration tokenTtl = Duration.ofMinutes(15);
+    private String activeKeyId;
+    private Map<String, String> keys = new LinkedHashMap<>();
+}
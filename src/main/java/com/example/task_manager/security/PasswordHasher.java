@@ -0,0 +1,154 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.exceptions.PasswordHashingBusyException;
+import com.example.task_manager.utils.DateTimeUTC;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntToLongFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class PasswordHasher {
+    private static final int MIN_COST = 4;
+    private static final int MIN_CALIBRATED_COST = 10;
+    private static final int MAX_COST = 16;
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final ThreadPoolExecutor executor;
+    private final BCryptPasswordEncoder encoder;
+    private final int cost;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(
+            MeterRegistry meterRegistry,
+            @Value("${task-manager.password.cost:0}") int configuredCost,
+            @Value("${task-manager.password.target-latency:250ms}") Duration targetLatency,
+            @Value("${task-manager.password.threads:0}") int threads,
+            @Value("${task-manager.password.queue-capacity:64}") int queueCapacity,
+            @Value("${task-manager.password.timeout:5s}") Duration timeout
+    ) {
+        this.cost = configuredCost >= MIN_COST ? Math.min(configuredCost, MAX_COST) : calibrate(targetLatency, PasswordHasher::encodeNanos);
+        this.encoder = new BCryptPasswordEncoder(cost);
+        this.timeout = timeout;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        new ExecutorServiceMetrics(executor, "passwordHashing", Tags.empty()).bindTo(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing").tag("operation", "hash").register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hashing").tag("operation", "verify").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        log.info("[PasswordHasher] Using bcrypt cost {} on {} threads with queue capacity {}", cost, poolSize, queueCapacity);
+    }
+
+    public String hash(String plainPassword) {
+        return submit(hashTimer, () -> encoder.encode(plainPassword));
+    }
+
+    public boolean verify(String plainPassword, String hashedPassword) {
+        return submit(verifyTimer, () -> encoder.matches(plainPassword, hashedPassword));
+    }
+
+    public boolean needsRehash(String hashedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(hashedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Timer timer, Callable<T> call) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(call));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[PasswordHasher] Rejected password hashing request, queue is full");
+            throw new PasswordHashingBusyException("Too many authentication requests, please retry later", DateTimeUTC.now());
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[PasswordHasher] Password hashing request timed out after {}", timeout);
+            throw new PasswordHashingBusyException("Too many authentication requests, please retry later", DateTimeUTC.now());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // package-private so the bounds can be checked without timing real hashes
+    static int calibrate(Duration targetLatency, IntToLongFunction encodeNanos) {
+        int calibrated = MIN_CALIBRATED_COST;
+        encodeNanos.applyAsLong(calibrated);
+        while (calibrated < MAX_COST) {
+            long elapsed = encodeNanos.applyAsLong(calibrated);
+            // each extra cost step doubles the work, so stop once the next one would overshoot the target
+            if (elapsed * 2 > targetLatency.toNanos()) {
+                break;
+            }
+            calibrated++;
+        }
+        log.info("[PasswordHasher] Calibrated bcrypt cost {} for target latency {}", calibrated, targetLatency);
+        return calibrated;
+    }
+
+    private static long encodeNanos(int cost) {
+        long start = System.nanoTime();
+        new BCryptPasswordEncoder(cost).encode("calibration");
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.reactive.ReactiveTaskRepository;
+import com.example.task_manager.services.IReactiveTeamService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// the same ownership rules as AccessPolicy for the routes the reactive stack serves
+@Component
+@Profile("reactive")
+public class ReactiveAccessPolicy {
+    private final IReactiveTeamService teamService;
+    private final ReactiveTaskRepository taskRepository;
+
+    public ReactiveAccessPolicy(IReactiveTeamService teamService, ReactiveTaskRepository taskRepository) {
+        this.teamService = teamService;
+        this.taskRepository = taskRepository;
+    }
+
+    public ReactiveAuthorizationManager<AuthorizationContext> self(String userIdVariable) {
+        return (authentication, context) -> userIdOf(authentication)
+                .map(userId -> new AuthorizationDecision(userId.equals(context.getVariables().get(userIdVariable))))
+                .defaultIfEmpty(new AuthorizationDecision(false));
+    }
+
+    public ReactiveAuthorizationManager<AuthorizationContext> teamMember(String teamIdVariable) {
+        return (authentication, context) -> {
+            Object teamId = context.getVariables().get(teamIdVariable);
+            return userIdOf(authentication)
+                    .filter(userId -> teamId != null)
+                    .flatMap(userId -> teamService.isTeamMember(teamId.toString(), userId))
+                    .map(AuthorizationDecision::new)
+                    .defaultIfEmpty(new AuthorizationDecision(false));
+        };
+    }
+
+    // a team task belongs to its team's members, a personal task to the users it is assigned to;
+    // a task that does not exist is let through, so the handler answers 404
+    public ReactiveAuthorizationManager<AuthorizationContext> taskOwner(String taskIdVariable) {
+        return (authentication, context) -> userIdOf(authentication)
+                .flatMap(userId -> taskRepository.findAccessRefById(String.valueOf(context.getVariables().get(taskIdVariable)))
+                        .flatMap(task -> isOwner(task, userId))
+                        .defaultIfEmpty(true))
+                .map(AuthorizationDecision::new)
+                .defaultIfEmpty(new AuthorizationDecision(false));
+    }
+
+    private Mono<Boolean> isOwner(Task task, String userId) {
+        if (task.getType() == TaskType.TEAM) {
+            return task.getTeamId() == null ? Mono.just(false) : teamService.isTeamMember(task.getTeamId(), userId);
+        }
+        return Mono.just(task.getAssignedUsersId() != null && task.getAssignedUsersId().contains(userId));
+    }
+
+    private static Mono<String> userIdOf(Mono<Authentication> authentication) {
+        return authentication
+                .filter(found -> found.isAuthenticated() && !(found instanceof AnonymousAuthenticationToken))
+                .map(Authentication::getName);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.task_manager.security;
+
+import java.util.Date;
+
+public record TokenClaims(String tokenId, String userId, Date issuedAt, Date expiresAt) {
+}
@@ -0,0 +1,154 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.utils.DateTimeUTC;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+public class TokenService {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final TypeReference<Map<String, Object>> JSON_MAP = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+    private final String activeKeyId;
+    private final long ttlMillis;
+    private final Cache<String, Date> revokedTokens;
+
+    public TokenService(AuthProperties properties, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = properties.getTokenTtl().toMillis();
+        // a revoked token only has to be remembered until it expires on its own, and never any shorter,
+        // so entries live exactly that long and the list is not size-bounded
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(Expiry.<String, Date>creating((tokenId, expiresAt) ->
+                        Duration.ofMillis(Math.max(0, expiresAt.getTime() - DateTimeUTC.now().getTime()))))
+                .build();
+
+        properties.getKeys().forEach((keyId, secret) -> keys.put(keyId, toKey(keyId, Base64.getDecoder().decode(secret))));
+        if (keys.isEmpty()) {
+            byte[] secret = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(secret);
+            keys.put("local", toKey("local", secret));
+            log.warn("[TokenService] No signing keys configured, generated a node-local key; tokens will not survive a restart");
+        }
+        this.activeKeyId = properties.getActiveKeyId() != null
+                ? properties.getActiveKeyId()
+                : keys.keySet().iterator().next();
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Active signing key '" + activeKeyId + "' is not configured");
+        }
+        log.info("[TokenService] Signing tokens with key '{}', accepting keys {}", activeKeyId, keys.keySet());
+    }
+
+    public String issue(String userId, Date issuedAt) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("alg", "HS256");
+        header.put("typ", "JWT");
+        header.put("kid", activeKeyId);
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("jti", new ObjectId().toHexString());
+        payload.put("sub", userId);
+        payload.put("iat", issuedAt.getTime() / 1000);
+        payload.put("exp", (issuedAt.getTime() + ttlMillis) / 1000);
+
+        String signingInput = encode(header) + "." + encode(payload);
+        return signingInput + "." + ENCODER.encodeToString(sign(keys.get(activeKeyId), signingInput));
+    }
+
+    public Date expiresAt(Date issuedAt) {
+        return new Date(issuedAt.getTime() / 1000 * 1000 + ttlMillis);
+    }
+
+    public Optional<TokenClaims> verify(String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> header = objectMapper.readValue(DECODER.decode(parts[0]), JSON_MAP);
+            SecretKeySpec key = keys.get(String.valueOf(header.get("kid")));
+            if (key == null || !"HS256".equals(header.get("alg"))) {
+                return Optional.empty();
+            }
+
+            byte[] expected = sign(key, parts[0] + "." + parts[1]);
+            if (!MessageDigest.isEqual(expected, DECODER.decode(parts[2]))) {
+                return Optional.empty();
+            }
+
+            Map<String, Object> payload = objectMapper.readValue(DECODER.decode(parts[1]), JSON_MAP);
+            TokenClaims claims = new TokenClaims(
+                    (String) payload.get("jti"),
+                    (String) payload.get("sub"),
+                    new Date(((Number) payload.get("iat")).longValue() * 1000),
+                    new Date(((Number) payload.get("exp")).longValue() * 1000)
+            );
+            if (claims.userId() == null || claims.tokenId() == null
+                    || !claims.expiresAt().after(DateTimeUTC.now())
+                    || revokedTokens.getIfPresent(claims.tokenId()) != null) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IOException | IllegalArgumentException | ClassCastException | NullPointerException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void revoke(TokenClaims claims) {
+        revokedTokens.put(claims.tokenId(), claims.expiresAt());
+        log.info("[TokenService] Revoked token {} of user with ID: {}", claims.tokenId(), claims.userId());
+    }
+
+    private String encode(Map<String, Object> json) {
+        try {
+            return ENCODER.encodeToString(objectMapper.writeValueAsBytes(json));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to encode token", e);
+        }
+    }
+
+    private static byte[] sign(SecretKeySpec key, String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to sign token", e);
+        }
+    }
+
+    private static SecretKeySpec toKey(String keyId, byte[] secret) {
+        if (secret.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("Signing key '" + keyId + "' must be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        return new SecretKeySpec(secret, ALGORITHM);
+    }
+}
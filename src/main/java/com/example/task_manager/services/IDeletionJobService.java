@@ -0,0 +1,9 @@
+package com.example.task_manager.services;
+
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
+import com.example.task_manager.enums.DeletionResourceType;
+
+public interface IDeletionJobService {
+    public DeletionJobResponseDto schedule(DeletionResourceType resourceType, String resourceId, String requestedBy);
+    public DeletionJobResponseDto getJobById(String id);
+}
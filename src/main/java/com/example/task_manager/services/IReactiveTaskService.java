@@ -0,0 +1,18 @@
+package com.example.task_manager.services;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveTaskService {
+    public Flux<TaskResponseDto> getTasksByUserId(String id);
+    public Flux<TaskResponseDto> getTasksByTeamId(String id);
+    public Mono<TaskResponseDto> createUserTask(String id, TaskRequestDto dto);
+    public Mono<TaskResponseDto> createTeamTask(String id, TaskRequestDto dto);
+    public Mono<TaskResponseDto> update(String id, TaskRequestDto dto);
+    public Mono<Void> assignUserById(String taskId, AssignUserRequestDto dto);
+    public Mono<Void> deletePersonalTask(String id);
+    public Mono<Void> deleteTeamTask(String teamId, String taskId);
+}
@@ -0,0 +1,19 @@
+package com.example.task_manager.services;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.team.TeamRequestDto;
+import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IReactiveTeamService {
+    public Flux<TeamResponseDto> getTeamsByUserId(String id);
+    public Mono<TeamResponseDto> create(TeamRequestDto dto);
+    public Mono<TeamResponseDto> update(String id, TeamRequestDto dto);
+    public Mono<Void> updateModifiedAtById(String id);
+    public Mono<Void> addMember(String teamId, AssignUserRequestDto dto);
+    public Mono<Void> delete(String id);
+    public Mono<Void> assertTeamExistsById(String id);
+    public Mono<Boolean> isTeamMember(String teamId, String userId);
+    public Mono<Void> assertUserIsTeamMember(String teamId, String userId);
+}
@@ -0,0 +1,13 @@
+package com.example.task_manager.services;
+
+import com.example.task_manager.dtos.response.user.UserResponseDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface IReactiveUserService {
+    public Mono<UserResponseDto> getUserById(String id);
+    public Flux<UserResponseDto> getUsersByIds(List<String> ids);
+    public Mono<Void> assertUserExistsById(String id);
+}
@@ -1,23 +1,46 @@
 package com.example.task_manager.services;
 
 import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskPatchRequestDto;
 import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.request.task.TaskSearchRequestDto;
+import com.example.task_manager.dtos.response.task.TaskBatchResponseDto;
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.dtos.response.task.TaskImportResponseDto;
+import com.example.task_manager.dtos.response.task.TaskPageResponseDto;
 import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.enums.TaskFileFormat;
+import com.example.task_manager.utils.TaskExport;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ITaskService {
     public List<TaskResponseDto> getTasksByUserId(String id);
     public List<TaskResponseDto> getTasksByTeamId(String id);
+    public String getTasksETagByTeamId(String id);
+    public SseEmitter subscribeToTeamEvents(String id);
+    public TaskPageResponseDto getTasksPageByUserId(String id, String cursor, int limit);
+    public TaskPageResponseDto getTasksPageByTeamId(String id, String cursor, int limit);
+    public TaskPageResponseDto searchTasks(TaskSearchRequestDto dto, String callerId);
+    public List<TaskCalendarEntryDto> getCalendarByUserId(String id, LocalDateTime from, LocalDateTime to);
+    public List<TaskCalendarEntryDto> getCalendarByTeamId(String id, LocalDateTime from, LocalDateTime to);
+    public TaskExport exportTasksByUserId(String id, TaskFileFormat format);
+    public TaskExport exportTasksByTeamId(String id, TaskFileFormat format);
     public TaskResponseDto createUserTask(String id, TaskRequestDto dto);
     public TaskResponseDto createTeamTask(String id, TaskRequestDto dto);
+    public TaskBatchResponseDto createUserTasks(String id, List<TaskRequestDto> dtos);
+    public TaskBatchResponseDto createTeamTasks(String id, List<TaskRequestDto> dtos);
+    public TaskImportResponseDto importUserTasks(String id, TaskFileFormat format, InputStream inputStream);
+    public TaskImportResponseDto importTeamTasks(String id, TaskFileFormat format, InputStream inputStream);
     public TaskResponseDto update(String id, TaskRequestDto dto);
+    public TaskResponseDto patch(String id, TaskPatchRequestDto dto);
     public void assignUserById(String taskId, AssignUserRequestDto dto);
-    public void unassignUserById(String userId);
+    public void unassignUserFromTaskById(String taskId, AssignUserRequestDto dto);
     public void deletePersonalTask(String id);
     public void deleteTeamTask(String teamId, String taskId);
-    public void deleteTeamTasksByTeamId(String teamId);
-    public void deleteUserTasksByUserId(String id);
     public void assertPersonalTaskExistsById(String id);
     public void assertTeamTaskExistsById(String id);
 }
@@ -0,0 +1,119 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.enums.DeletionResourceType;
+import com.example.task_manager.exceptions.ResourceNotFoundException;
+import com.example.task_manager.jobs.DeletionJobWorker;
+import com.example.task_manager.mappers.DeletionJobMapper;
+import com.example.task_manager.repositories.DeletionJobRepository;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.services.IDeletionJobService;
+import com.example.task_manager.utils.DateTimeUTC;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class DeletionJobServiceImpl implements IDeletionJobService {
+    private final DeletionJobRepository deletionJobRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final DeletionJobMapper deletionJobMapper;
+    private final DeletionJobWorker deletionJobWorker;
+    private final Duration lease;
+
+    public DeletionJobServiceImpl(
+            DeletionJobRepository deletionJobRepository,
+            UserRepository userRepository,
+            TeamRepository teamRepository,
+            DeletionJobMapper deletionJobMapper,
+            DeletionJobWorker deletionJobWorker,
+            @Value("${task-manager.deletions.lease:2m}") Duration lease
+    ) {
+        this.deletionJobRepository = deletionJobRepository;
+        this.userRepository = userRepository;
+        this.teamRepository = teamRepository;
+        this.deletionJobMapper = deletionJobMapper;
+        this.deletionJobWorker = deletionJobWorker;
+        this.lease = lease;
+    }
+
+    // the job is stored before the resource is marked, so a crash in between leaves a job for the
+    // sweeper rather than a resource that is hidden but never deleted; it is inserted reserved for
+    // one lease so that nothing claims it until the mark has decided whether it is needed at all
+    @Override
+    public DeletionJobResponseDto schedule(DeletionResourceType resourceType, String resourceId, String requestedBy) {
+        log.info("[DeletionJobService] Scheduling deletion of {} with ID: {}", resourceType, resourceId);
+        Date now = DateTimeUTC.now();
+        Date reservedUntil = new Date(now.getTime() + lease.toMillis());
+        DeletionJob job = deletionJobRepository.insert(DeletionJob.builder()
+                .resourceType(resourceType)
+                .resourceId(resourceId)
+                .requestedBy(requestedBy)
+                .status(DeletionJobStatus.PENDING)
+                .step(DeletionJobStep.stepsOf(resourceType).get(0))
+                .leaseUntil(reservedUntil)
+                .createdAt(now)
+                .modifiedAt(now)
+                .build());
+
+        if (!markPendingDeletion(resourceType, resourceId, job.getId(), now)) {
+            if (!deletionJobRepository.discard(job.getId(), reservedUntil)) {
+                log.warn("[DeletionJobService] Reservation of deletion job with ID: {} expired before it was discarded", job.getId());
+            }
+            log.info("[DeletionJobService] {} with ID: {} is already pending deletion", resourceType, resourceId);
+            return findPendingJobId(resourceType, resourceId)
+                    .flatMap(deletionJobRepository::findById)
+                    .map(deletionJobMapper::toDto)
+                    .orElseThrow(() -> new ResourceNotFoundException(
+                            resourceType + " with ID: " + resourceId + " doesn't exist",
+                            DateTimeUTC.now()
+                    ));
+        }
+
+        if (deletionJobRepository.release(job.getId(), reservedUntil, DateTimeUTC.now())) {
+            job.setLeaseUntil(null);
+        }
+        deletionJobWorker.submit(job.getId());
+        log.info("[DeletionJobService] Scheduled deletion job with ID: {} for {} with ID: {}", job.getId(), resourceType, resourceId);
+        return deletionJobMapper.toDto(job);
+    }
+
+    @Override
+    public DeletionJobResponseDto getJobById(String id) {
+        log.info("[DeletionJobService] Fetching deletion job with ID: {}", id);
+        return deletionJobRepository.findById(id)
+                .map(deletionJobMapper::toDto)
+                .orElseThrow(() -> {
+                    log.warn("[DeletionJobService] Deletion job with ID: {} not found", id);
+                    return new ResourceNotFoundException("Deletion job with ID: " + id + " doesn't exist", DateTimeUTC.now());
+                });
+    }
+
+    private boolean markPendingDeletion(DeletionResourceType resourceType, String resourceId, String jobId, Date now) {
+        return switch (resourceType) {
+            case USER -> userRepository.markPendingDeletion(resourceId, jobId, now);
+            case TEAM -> teamRepository.markPendingDeletion(resourceId, jobId, now);
+        };
+    }
+
+    private Optional<String> findPendingJobId(DeletionResourceType resourceType, String resourceId) {
+        return switch (resourceType) {
+            case USER -> userRepository.findById(resourceId).map(User::getDeletionJobId);
+            case TEAM -> teamRepository.findById(resourceId).map(Team::getDeletionJobId);
+        };
+    }
+}
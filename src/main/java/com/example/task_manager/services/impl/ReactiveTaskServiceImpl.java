@@ -0,0 +1,142 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.exceptions.ResourceNotFoundException;
+import com.example.task_manager.mappers.TaskMapper;
+import com.example.task_manager.repositories.reactive.ReactiveTaskRepository;
+import com.example.task_manager.services.IReactiveTaskService;
+import com.example.task_manager.services.IReactiveTeamService;
+import com.example.task_manager.services.IReactiveUserService;
+import com.example.task_manager.utils.DateTimeUTC;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveTaskServiceImpl implements IReactiveTaskService {
+    private final ReactiveTaskRepository taskRepository;
+    private final IReactiveUserService userService;
+    private final IReactiveTeamService teamService;
+    private final TaskMapper taskMapper;
+
+    public ReactiveTaskServiceImpl(
+            ReactiveTaskRepository taskRepository,
+            IReactiveUserService userService,
+            IReactiveTeamService teamService,
+            TaskMapper taskMapper
+    ) {
+        this.taskRepository = taskRepository;
+        this.userService = userService;
+        this.teamService = teamService;
+        this.taskMapper = taskMapper;
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getTasksByUserId(String id) {
+        log.info("[ReactiveTaskService] Streaming personal tasks for user with ID: {}", id);
+        return userService.assertUserExistsById(id)
+                .thenMany(taskRepository.findByAssignedUsersIdAndType(id, TaskType.PERSONAL))
+                .map(taskMapper::toDto);
+    }
+
+    @Override
+    public Flux<TaskResponseDto> getTasksByTeamId(String id) {
+        log.info("[ReactiveTaskService] Streaming team tasks for team with ID: {}", id);
+        return teamService.assertTeamExistsById(id)
+                .thenMany(taskRepository.findByTeamIdAndType(id, TaskType.TEAM))
+                .map(taskMapper::toDto);
+    }
+
+    @Override
+    public Mono<TaskResponseDto> createUserTask(String id, TaskRequestDto dto) {
+        log.info("[ReactiveTaskService] Creating personal task for user with ID: {}", id);
+        return userService.assertUserExistsById(id)
+                .then(Mono.defer(() -> taskRepository.save(taskMapper.toPersonalTask(dto, id, DateTimeUTC.now()))))
+                .map(saved -> {
+                    log.info("[ReactiveTaskService] Created personal task with ID: {} for user with ID: {}", saved.getId(), id);
+                    return taskMapper.toDto(saved);
+                });
+    }
+
+    @Override
+    public Mono<TaskResponseDto> createTeamTask(String id, TaskRequestDto dto) {
+        log.info("[ReactiveTaskService] Creating team task for team with ID: {}", id);
+        return teamService.assertTeamExistsById(id)
+                .then(Mono.defer(() -> taskRepository.save(taskMapper.toTeamTask(dto, id, DateTimeUTC.now()))))
+                .map(saved -> {
+                    log.info("[ReactiveTaskService] Created team task with ID: {} for team with ID: {}", saved.getId(), id);
+                    return taskMapper.toDto(saved);
+                });
+    }
+
+    @Override
+    public Mono<TaskResponseDto> update(String id, TaskRequestDto dto) {
+        log.info("[ReactiveTaskService] Updating task with ID: {}", id);
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> taskNotFound(id)))
+                .flatMap(task -> taskRepository.save(taskMapper.toUpdatedEntity(dto, task, DateTimeUTC.now())))
+                .map(saved -> {
+                    log.info("[ReactiveTaskService] Task with ID: {} updated successfully", id);
+                    return taskMapper.toDto(saved);
+                });
+    }
+
+    @Override
+    public Mono<Void> assignUserById(String taskId, AssignUserRequestDto dto) {
+        String userId = dto.getUserId();
+        log.info("[ReactiveTaskService] Assigning user with ID: {} to task with ID: {}", userId, taskId);
+        return userService.assertUserExistsById(userId)
+                .then(taskRepository.findTeamRefById(taskId))
+                .switchIfEmpty(Mono.error(() -> taskNotFound(taskId)))
+                .flatMap(task -> teamService.assertUserIsTeamMember(task.getTeamId(), userId)
+                        .then(Mono.defer(() -> taskRepository.addAssignedUser(taskId, task.getType(), userId, DateTimeUTC.now()))))
+                .doOnNext(assigned -> {
+                    if (assigned) {
+                        log.info("[ReactiveTaskService] User with ID: {} assigned to task with ID: {}", userId, taskId);
+                    } else {
+                        log.warn("[ReactiveTaskService] User with ID: {} already assigned to task with ID: {}", userId, taskId);
+                    }
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> deletePersonalTask(String id) {
+        log.info("[ReactiveTaskService] Deleting personal task with ID: {}", id);
+        return assertTaskExistsById(id, TaskType.PERSONAL)
+                .then(taskRepository.deleteById(id))
+                .doOnSuccess(ignored -> log.info("[ReactiveTaskService] Personal task with ID: {} deleted", id));
+    }
+
+    @Override
+    public Mono<Void> deleteTeamTask(String teamId, String taskId) {
+        log.info("[ReactiveTaskService] Deleting team task with ID: {} from team with ID: {}", taskId, teamId);
+        return assertTaskExistsById(taskId, TaskType.TEAM)
+                .then(teamService.assertTeamExistsById(teamId))
+                .then(teamService.updateModifiedAtById(teamId))
+                .then(taskRepository.deleteByIdAndTeamIdAndType(taskId, teamId, TaskType.TEAM))
+                .doOnSuccess(ignored -> log.info("[ReactiveTaskService] Team task with ID: {} deleted", taskId));
+    }
+
+    private Mono<Void> assertTaskExistsById(String id, TaskType type) {
+        return taskRepository.existsByIdAndType(id, type).flatMap(exists -> {
+            if (!exists) {
+                log.warn("[ReactiveTaskService] {} task with ID: {} does not exist", type, id);
+                return Mono.error(taskNotFound(id));
+            }
+            return Mono.empty();
+        });
+    }
+
+    private ResourceNotFoundException taskNotFound(String id) {
+        return new ResourceNotFoundException("Task with ID: " + id + " doesn't exist", DateTimeUTC.now());
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.team.TeamRequestDto;
+import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.exceptions.ResourceNotFoundException;
+import com.example.task_manager.exceptions.UserIsNotTeamMemberException;
+import com.example.task_manager.mappers.TaskMapper;
+import com.example.task_manager.mappers.TeamMapper;
+import com.example.task_manager.repositories.reactive.ReactiveTaskRepository;
+import com.example.task_manager.repositories.reactive.ReactiveTeamRepository;
+import com.example.task_manager.services.IReactiveTeamService;
+import com.example.task_manager.services.IReactiveUserService;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.example.task_manager.utils.ExistenceCache;
+import com.example.task_manager.utils.TeamCollectionData;
+import com.example.task_manager.utils.TeamMembershipCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveTeamServiceImpl implements IReactiveTeamService {
+    private final ReactiveTeamRepository teamRepository;
+    private final ReactiveTaskRepository taskRepository;
+    private final IReactiveUserService userService;
+    private final TeamMapper teamMapper;
+    private final TaskMapper taskMapper;
+    private final int embeddedTaskLimit;
+    private final ExistenceCache teamExistenceCache;
+    private final TeamMembershipCache teamMembershipCache;
+
+    public ReactiveTeamServiceImpl(
+            ReactiveTeamRepository teamRepository,
+            ReactiveTaskRepository taskRepository,
+            IReactiveUserService userService,
+            TeamMapper teamMapper,
+            TaskMapper taskMapper,
+            @Value("${task-manager.teams.embedded-task-limit:0}") int embeddedTaskLimit,
+            @Qualifier("teamExistenceCache") ExistenceCache teamExistenceCache,
+            TeamMembershipCache teamMembershipCache
+    ) {
+        this.teamRepository = teamRepository;
+        this.taskRepository = taskRepository;
+        this.userService = userService;
+        this.teamMapper = teamMapper;
+        this.taskMapper = taskMapper;
+        this.embeddedTaskLimit = embeddedTaskLimit;
+        this.teamExistenceCache = teamExistenceCache;
+        this.teamMembershipCache = teamMembershipCache;
+    }
+
+    @Override
+    public Flux<TeamResponseDto> getTeamsByUserId(String id) {
+        log.info("[ReactiveTeamService] Fetching teams for user with ID: {}", id);
+        return userService.getUserById(id)
+                .thenMany(teamRepository.findTeamsWithCollectionsByOwnerId(id, embeddedTaskLimit))
+                .map(team -> teamMapper.toDto(team, embeddedTaskLimit));
+    }
+
+    @Override
+    public Mono<TeamResponseDto> create(TeamRequestDto dto) {
+        log.info("[ReactiveTeamService] Creating team for owner with ID: {}", dto.getOwnerId());
+        return userService.getUserById(dto.getOwnerId()).flatMap(owner -> {
+            Team team = teamMapper.toEntity(dto);
+            team.setMembersId(List.of(dto.getOwnerId()));
+            team.setCreatedAt(DateTimeUTC.now());
+            team.setModifiedAt(DateTimeUTC.now());
+
+            return teamRepository.save(team).map(savedTeam -> {
+                teamExistenceCache.add(savedTeam.getId());
+                log.info("[ReactiveTeamService] Successfully created team with ID: {}", savedTeam.getId());
+                return teamMapper.toDto(savedTeam, TeamCollectionData.builder()
+                        .members(List.of(owner))
+                        .build()
+                );
+            });
+        });
+    }
+
+    @Override
+    public Mono<TeamResponseDto> update(String id, TeamRequestDto dto) {
+        log.info("[ReactiveTeamService] Updating team with ID: {}", id);
+        return getTeamById(id)
+                .flatMap(team -> {
+                    Team updatedTeam = teamMapper.toEntity(dto);
+                    updatedTeam.setId(team.getId());
+                    updatedTeam.setCreatedAt(team.getCreatedAt());
+                    updatedTeam.setModifiedAt(DateTimeUTC.now());
+                    updatedTeam.setMembersId(team.getMembersId());
+                    return teamRepository.save(updatedTeam);
+                })
+                .flatMap(savedTeam -> collectTeamData(savedTeam).map(data -> {
+                    log.info("[ReactiveTeamService] Successfully updated team with ID: {}", id);
+                    return teamMapper.toDto(savedTeam, data);
+                }));
+    }
+
+    @Override
+    public Mono<Void> updateModifiedAtById(String id) {
+        log.info("[ReactiveTeamService] Updating modifiedAt timestamp for team with ID: {}", id);
+        return teamRepository.updateModifiedAt(id, DateTimeUTC.now()).flatMap(updated -> updated
+                ? Mono.<Void>empty()
+                : Mono.error(teamNotFound(id)));
+    }
+
+    @Override
+    public Mono<Void> addMember(String teamId, AssignUserRequestDto dto) {
+        String userId = dto.getUserId();
+        log.info("[ReactiveTeamService] Adding user with ID: {} to team with ID: {}", userId, teamId);
+        return assertTeamExistsById(teamId)
+                .then(userService.assertUserExistsById(userId))
+                .then(Mono.defer(() -> teamRepository.addMember(teamId, userId, DateTimeUTC.now())))
+                .doOnNext(added -> {
+                    if (added) {
+                        log.info("[ReactiveTeamService] User with ID: {} added to team with ID: {}", userId, teamId);
+                    } else {
+                        log.warn("[ReactiveTeamService] User with ID: {} already in team with ID: {}", userId, teamId);
+                    }
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Void> delete(String id) {
+        log.info("[ReactiveTeamService] Deleting team with ID: {}", id);
+        return assertTeamExistsById(id)
+                .then(taskRepository.deleteByTeamId(id))
+                .then(teamRepository.deleteById(id))
+                .doOnSuccess(ignored -> {
+                    teamExistenceCache.invalidate(id);
+                    teamMembershipCache.invalidateTeam(id);
+                    log.info("[ReactiveTeamService] Successfully deleted team with ID: {}", id);
+                });
+    }
+
+    @Override
+    public Mono<Void> assertTeamExistsById(String id) {
+        if (teamExistenceCache.contains(id)) {
+            return Mono.empty();
+        }
+        long generation = teamExistenceCache.generation();
+        return teamRepository.existsById(id).flatMap(exists -> {
+            if (!exists) {
+                log.warn("[ReactiveTeamService] Team with ID: {} does not exist", id);
+                return Mono.error(teamNotFound(id));
+            }
+            teamExistenceCache.add(id, generation);
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Boolean> isTeamMember(String teamId, String userId) {
+        if (teamMembershipCache.contains(teamId, userId)) {
+            return Mono.just(true);
+        }
+        long generation = teamMembershipCache.generation();
+        return teamRepository.existsByIdAndMembersIdAndDeletionJobIdIsNull(teamId, userId).doOnNext(member -> {
+            if (member) {
+                teamMembershipCache.add(teamId, userId, generation);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> assertUserIsTeamMember(String teamId, String userId) {
+        return isTeamMember(teamId, userId).flatMap(member -> {
+            if (member) {
+                return Mono.empty();
+            }
+            return assertTeamExistsById(teamId).then(Mono.error(() -> {
+                log.warn("[ReactiveTeamService] User with ID: {} is not a member of team with ID: {}", userId, teamId);
+                return new UserIsNotTeamMemberException(
+                        "User with ID: " + userId + " isn't a member of the team with ID: " + teamId,
+                        DateTimeUTC.now()
+                );
+            }));
+        });
+    }
+
+    private Mono<Team> getTeamById(String id) {
+        return teamRepository.findById(id).switchIfEmpty(Mono.error(() -> {
+            log.warn("[ReactiveTeamService] Team with ID: {} not found", id);
+            return teamNotFound(id);
+        }));
+    }
+
+    private Mono<TeamCollectionData> collectTeamData(Team team) {
+        return Mono.zip(
+                userService.getUsersByIds(team.getMembersId()).collectList(),
+                taskRepository.findByTeamIdAndType(team.getId(), TaskType.TEAM).map(taskMapper::toDto).collectList()
+        ).map(data -> TeamCollectionData.builder()
+                .members(data.getT1())
+                .tasks(data.getT2())
+                .build());
+    }
+
+    private ResourceNotFoundException teamNotFound(String id) {
+        return new ResourceNotFoundException("Team with ID: " + id + " doesn't exist", DateTimeUTC.now());
+    }
+}
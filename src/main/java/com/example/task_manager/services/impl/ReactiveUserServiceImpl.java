@@ -0,0 +1,73 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.response.user.UserResponseDto;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.exceptions.ResourceNotFoundException;
+import com.example.task_manager.mappers.UserMapper;
+import com.example.task_manager.repositories.reactive.ReactiveUserRepository;
+import com.example.task_manager.services.IReactiveUserService;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.example.task_manager.utils.ExistenceCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveUserServiceImpl implements IReactiveUserService {
+    private final ReactiveUserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ExistenceCache userExistenceCache;
+
+    public ReactiveUserServiceImpl(
+            ReactiveUserRepository userRepository,
+            UserMapper userMapper,
+            @Qualifier("userExistenceCache") ExistenceCache userExistenceCache
+    ) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.userExistenceCache = userExistenceCache;
+    }
+
+    @Override
+    public Mono<UserResponseDto> getUserById(String id) {
+        log.info("[ReactiveUserService] Attempting to fetch user with ID: {}", id);
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("[ReactiveUserService] User with ID: {} not found", id);
+                    return new ResourceNotFoundException("User with ID: " + id + " doesn't exist", DateTimeUTC.now());
+                }))
+                .map(userMapper::toDto);
+    }
+
+    @Override
+    public Flux<UserResponseDto> getUsersByIds(List<String> ids) {
+        log.info("[ReactiveUserService] Attempting to fetch {} users by IDs", ids.size());
+        return userRepository.findByIdInAndDeletionJobIdIsNull(ids)
+                .collectMap(User::getId)
+                .flatMapMany(usersById -> Flux.fromIterable(ids).mapNotNull(usersById::get))
+                .map(userMapper::toDto);
+    }
+
+    @Override
+    public Mono<Void> assertUserExistsById(String id) {
+        if (userExistenceCache.contains(id)) {
+            return Mono.empty();
+        }
+        long generation = userExistenceCache.generation();
+        return userRepository.existsById(id).flatMap(exists -> {
+            if (!exists) {
+                log.warn("[ReactiveUserService] User with ID: {} does not exist", id);
+                return Mono.error(new ResourceNotFoundException("User with ID: " + id + " doesn't exist", DateTimeUTC.now()));
+            }
+            userExistenceCache.add(id, generation);
+            return Mono.empty();
+        });
+    }
+}
@@ -1,39 +1,106 @@
 package com.example.task_manager.services.impl;
 
 import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.dtos.request.task.TaskPatchRequestDto;
 import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.request.task.TaskSearchRequestDto;
+import com.example.task_manager.dtos.response.task.TaskBatchErrorDto;
+import com.example.task_manager.dtos.response.task.TaskBatchResponseDto;
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.dtos.response.task.TaskEventDto;
+import com.example.task_manager.dtos.response.task.TaskImportErrorDto;
+import com.example.task_manager.dtos.response.task.TaskImportResponseDto;
+import com.example.task_manager.dtos.response.task.TaskPageResponseDto;
 import com.example.task_manager.dtos.response.task.TaskResponseDto;
 import com.example.task_manager.entities.Task;
-import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskEventType;
+import com.example.task_manager.enums.TaskFileFormat;
 import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.exceptions.InvalidDateRangeException;
+import com.example.task_manager.exceptions.InvalidImportFileException;
 import com.example.task_manager.exceptions.ResourceNotFoundException;
 import com.example.task_manager.mappers.TaskMapper;
 import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TaskSearchQuery;
 import com.example.task_manager.services.ITaskService;
 import com.example.task_manager.services.ITeamService;
 import com.example.task_manager.services.IUserService;
 import com.example.task_manager.utils.DateTimeUTC;
+import com.example.task_manager.utils.ETags;
+import com.example.task_manager.utils.PageCursor;
+import com.example.task_manager.utils.TaskCalendarCache;
+import com.example.task_manager.utils.TaskExport;
+import com.example.task_manager.utils.TaskImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 public class TaskServiceImpl implements ITaskService {
     private final TaskRepository taskRepository;
     private final IUserService userService;
     private final ITeamService teamService;
     private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskCalendarCache taskCalendarCache;
+    private final int importBatchSize;
+    private final int importMaxReportedErrors;
+    private final int importMaxRecordLength;
 
-    public TaskServiceImpl(TaskRepository taskRepository, IUserService userService, ITeamService teamService, TaskMapper taskMapper) {
+    public TaskServiceImpl(
+            TaskRepository taskRepository,
+            IUserService userService,
+            ITeamService teamService,
+            TaskMapper taskMapper,
+            Validator validator,
+            ObjectMapper objectMapper,
+            TaskEventBroadcaster taskEventBroadcaster,
+            TaskCalendarCache taskCalendarCache,
+            @Value("${task-manager.tasks.import.batch-size:1000}") int importBatchSize,
+            @Value("${task-manager.tasks.import.max-reported-errors:1000}") int importMaxReportedErrors,
+            @Value("${task-manager.tasks.import.max-record-length:16384}") int importMaxRecordLength
+    ) {
         this.taskRepository = taskRepository;
         this.userService = userService;
         this.teamService = teamService;
         this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.taskCalendarCache = taskCalendarCache;
+        this.importBatchSize = importBatchSize;
+        this.importMaxReportedErrors = importMaxReportedErrors;
+        this.importMaxRecordLength = importMaxRecordLength;
     }
 
     @Override
@@ -60,20 +127,148 @@ public class TaskServiceImpl implements ITaskService {
         return tasks;
     }
 
+    @Override
+    public String getTasksETagByTeamId(String id) {
+        teamService.assertTeamExistsById(id);
+        return ETags.weak("team-tasks:" + id,
+                taskRepository.findModificationStampByTeamIdAndType(id, TaskType.TEAM));
+    }
+
+    @Override
+    public SseEmitter subscribeToTeamEvents(String id) {
+        log.info("[TaskService] Subscribing to task events of team with ID: {}", id);
+        teamService.assertTeamExistsById(id);
+        return taskEventBroadcaster.subscribe(id);
+    }
+
+    @Override
+    public TaskExport exportTasksByUserId(String id, TaskFileFormat format) {
+        log.info("[TaskService] Preparing {} export of personal tasks for user with ID: {}", format, id);
+        userService.assertUserExistsById(id);
+        return new TaskExport(
+                format,
+                () -> taskRepository.streamByAssignedUsersIdAndType(id, TaskType.PERSONAL).map(taskMapper::toDto),
+                objectMapper.writer()
+        );
+    }
+
+    @Override
+    public TaskExport exportTasksByTeamId(String id, TaskFileFormat format) {
+        log.info("[TaskService] Preparing {} export of team tasks for team with ID: {}", format, id);
+        teamService.assertTeamExistsById(id);
+        return new TaskExport(
+                format,
+                () -> taskRepository.streamByTeamIdAndType(id, TaskType.TEAM).map(taskMapper::toDto),
+                objectMapper.writer()
+        );
+    }
+
+    @Override
+    public TaskPageResponseDto getTasksPageByUserId(String id, String cursor, int limit) {
+        log.info("[TaskService] Fetching page of {} personal tasks for user with ID: {}", limit, id);
+        userService.assertUserExistsById(id);
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<Task> tasks = cursor == null
+                ? taskRepository.findByAssignedUsersIdAndTypeOrderByIdAsc(id, TaskType.PERSONAL, fetchLimit)
+                : taskRepository.findByAssignedUsersIdAndTypeAndIdGreaterThanOrderByIdAsc(
+                        id, TaskType.PERSONAL, PageCursor.decode(cursor), fetchLimit);
+        TaskPageResponseDto page = taskMapper.toPageDto(tasks, limit);
+        log.info("[TaskService] Found {} personal tasks on page for user with ID: {}", page.getTasks().size(), id);
+        return page;
+    }
+
+    @Override
+    public TaskPageResponseDto getTasksPageByTeamId(String id, String cursor, int limit) {
+        log.info("[TaskService] Fetching page of {} team tasks for team with ID: {}", limit, id);
+        teamService.assertTeamExistsById(id);
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<Task> tasks = cursor == null
+                ? taskRepository.findByTeamIdAndTypeOrderByIdAsc(id, TaskType.TEAM, fetchLimit)
+                : taskRepository.findByTeamIdAndTypeAndIdGreaterThanOrderByIdAsc(
+                        id, TaskType.TEAM, PageCursor.decode(cursor), fetchLimit);
+        TaskPageResponseDto page = taskMapper.toPageDto(tasks, limit);
+        log.info("[TaskService] Found {} team tasks on page for team with ID: {}", page.getTasks().size(), id);
+        return page;
+    }
+
+    @Override
+    public TaskPageResponseDto searchTasks(TaskSearchRequestDto dto, String callerId) {
+        log.info("[TaskService] Searching tasks for team with ID: {} and assignee with ID: {}", dto.getTeamId(), dto.getAssigneeId());
+        if (dto.getTeamId() != null) {
+            teamService.assertTeamExistsById(dto.getTeamId());
+        }
+        if (dto.getAssigneeId() != null) {
+            userService.assertUserExistsById(dto.getAssigneeId());
+        }
+        // the scope comes from the caller: a team they belong to, or otherwise only their own tasks
+        boolean inScope = dto.getTeamId() != null
+                ? teamService.isTeamMember(dto.getTeamId(), callerId)
+                : callerId.equals(dto.getAssigneeId());
+        if (!inScope) {
+            log.warn("[TaskService] User with ID: {} may not search tasks of team with ID: {} and assignee with ID: {}",
+                    callerId, dto.getTeamId(), dto.getAssigneeId());
+            throw new AccessDeniedException("Tasks can only be searched in the caller's teams or among their own tasks");
+        }
+
+        // team tasks are the only ones with a teamId, so a team scope pins the type
+        if (dto.getTeamId() != null && dto.getType() == TaskType.PERSONAL) {
+            return taskMapper.toPageDto(List.of(), dto.getLimit());
+        }
+        List<TaskType> types = dto.getTeamId() != null
+                ? List.of(TaskType.TEAM)
+                : dto.getType() != null ? List.of(dto.getType()) : List.of(TaskType.values());
+
+        List<Task> tasks = taskRepository.search(TaskSearchQuery.builder()
+                .text(dto.getQ() == null || dto.getQ().isBlank() ? null : dto.getQ())
+                .teamId(dto.getTeamId())
+                .assigneeId(dto.getAssigneeId())
+                .types(types)
+                .statuses(dto.getStatus())
+                .priorities(dto.getPriority())
+                .startFrom(toDate(dto.getStartFrom()))
+                .startTo(toDate(dto.getStartTo()))
+                .endFrom(toDate(dto.getEndFrom()))
+                .endTo(toDate(dto.getEndTo()))
+                .sort(dto.getSort())
+                .direction(dto.getDirection())
+                .after(dto.getCursor() == null ? null : PageCursor.decode(dto.getCursor(), dto.getSort()))
+                .limit(dto.getLimit() + 1)
+                .build());
+        TaskPageResponseDto page = taskMapper.toSearchPageDto(tasks, dto.getLimit(), dto.getSort());
+        log.info("[TaskService] Found {} tasks on search page", page.getTasks().size());
+        return page;
+    }
+
+    @Override
+    public List<TaskCalendarEntryDto> getCalendarByUserId(String id, LocalDateTime from, LocalDateTime to) {
+        log.info("[TaskService] Fetching calendar from {} to {} for user with ID: {}", from, to, id);
+        assertValidCalendarWindow(from, to);
+        userService.assertUserExistsById(id);
+        List<TaskCalendarEntryDto> entries = taskCalendarCache.overlapping(TaskCalendarCache.Key.user(id), toDate(from), toDate(to),
+                () -> taskRepository.streamByAssignedUsersIdAndType(id, TaskType.PERSONAL).map(taskMapper::toCalendarEntry));
+        log.info("[TaskService] Found {} calendar entries for user with ID: {}", entries.size(), id);
+        return entries;
+    }
+
+    @Override
+    public List<TaskCalendarEntryDto> getCalendarByTeamId(String id, LocalDateTime from, LocalDateTime to) {
+        log.info("[TaskService] Fetching calendar from {} to {} for team with ID: {}", from, to, id);
+        assertValidCalendarWindow(from, to);
+        teamService.assertTeamExistsById(id);
+        List<TaskCalendarEntryDto> entries = taskCalendarCache.overlapping(TaskCalendarCache.Key.team(id), toDate(from), toDate(to),
+                () -> taskRepository.streamByTeamIdAndType(id, TaskType.TEAM).map(taskMapper::toCalendarEntry));
+        log.info("[TaskService] Found {} calendar entries for team with ID: {}", entries.size(), id);
+        return entries;
+    }
+
     @Override
     public TaskResponseDto createUserTask(String id, TaskRequestDto dto) {
         log.info("[TaskService] Creating personal task for user with ID: {}", id);
         userService.assertUserExistsById(id);
 
-        Task task = taskMapper.toEntity(dto);
-        task.setType(TaskType.PERSONAL);
-        task.setStatus(TaskStatus.NEW);
-        task.setCreatedAt(DateTimeUTC.now());
-        task.setModifiedAt(DateTimeUTC.now());
-        task.setAssignedUsersId(List.of(id));
-
-        Task saved = taskRepository.save(task);
+        Task saved = taskRepository.save(taskMapper.toPersonalTask(dto, id, DateTimeUTC.now()));
         log.info("[TaskService] Created personal task with ID: {} for user with ID: {}", saved.getId(), id);
+        taskCalendarCache.put(TaskCalendarCache.Key.user(id), taskMapper.toCalendarEntry(saved));
         return taskMapper.toDto(saved);
     }
 
@@ -82,17 +277,80 @@ public class TaskServiceImpl implements ITaskService {
         log.info("[TaskService] Creating team task for team with ID: {}", id);
         teamService.assertTeamExistsById(id);
 
-        Task task = taskMapper.toEntity(dto);
-        task.setType(TaskType.TEAM);
-        task.setStatus(TaskStatus.NEW);
-        task.setCreatedAt(DateTimeUTC.now());
-        task.setModifiedAt(DateTimeUTC.now());
-        task.setAssignedUsersId(new ArrayList<>());
-        task.setTeamId(id);
-
-        Task saved = taskRepository.save(task);
+        Task saved = taskRepository.save(taskMapper.toTeamTask(dto, id, DateTimeUTC.now()));
         log.info("[TaskService] Created team task with ID: {} for team with ID: {}", saved.getId(), id);
-        return taskMapper.toDto(saved);
+        taskCalendarCache.put(TaskCalendarCache.Key.team(id), taskMapper.toCalendarEntry(saved));
+        TaskResponseDto created = taskMapper.toDto(saved);
+        publishTeamEvent(TaskEventDto.builder()
+                .type(TaskEventType.CREATED)
+                .teamId(id)
+                .taskId(saved.getId())
+                .task(created)
+                .build());
+        return created;
+    }
+
+    @Override
+    public TaskBatchResponseDto createUserTasks(String id, List<TaskRequestDto> dtos) {
+        log.info("[TaskService] Creating batch of {} personal tasks for user with ID: {}", dtos.size(), id);
+        userService.assertUserExistsById(id);
+
+        Date now = DateTimeUTC.now();
+        TaskBatchResponseDto response = createTasks(dtos, dto -> taskMapper.toPersonalTask(dto, id, now),
+                TaskCalendarCache.Key.user(id));
+        log.info("[TaskService] Created {} personal tasks for user with ID: {}, rejected {}",
+                response.getCreated().size(), id, response.getErrors().size());
+        return response;
+    }
+
+    @Override
+    public TaskBatchResponseDto createTeamTasks(String id, List<TaskRequestDto> dtos) {
+        log.info("[TaskService] Creating batch of {} team tasks for team with ID: {}", dtos.size(), id);
+        teamService.assertTeamExistsById(id);
+
+        Date now = DateTimeUTC.now();
+        TaskBatchResponseDto response = createTasks(dtos, dto -> taskMapper.toTeamTask(dto, id, now),
+                TaskCalendarCache.Key.team(id));
+        log.info("[TaskService] Created {} team tasks for team with ID: {}, rejected {}",
+                response.getCreated().size(), id, response.getErrors().size());
+        publishBulkCreated(id, response.getCreated().size());
+        return response;
+    }
+
+    @Override
+    public TaskImportResponseDto importUserTasks(String id, TaskFileFormat format, InputStream inputStream) {
+        log.info("[TaskService] Importing {} personal tasks for user with ID: {}", format, id);
+        userService.assertUserExistsById(id);
+
+        Date now = DateTimeUTC.now();
+        TaskImportResponseDto response = newImportResponse();
+        try {
+            importTasks(format, inputStream, dto -> taskMapper.toPersonalTask(dto, id, now), response);
+        } finally {
+            // batches committed before a failure are already visible, so this runs on failures too
+            invalidateCalendarAfterImport(TaskCalendarCache.Key.user(id), response.getInserted());
+        }
+        log.info("[TaskService] Imported {} personal tasks for user with ID: {}, rejected {}",
+                response.getInserted(), id, response.getRejected());
+        return response;
+    }
+
+    @Override
+    public TaskImportResponseDto importTeamTasks(String id, TaskFileFormat format, InputStream inputStream) {
+        log.info("[TaskService] Importing {} team tasks for team with ID: {}", format, id);
+        teamService.assertTeamExistsById(id);
+
+        Date now = DateTimeUTC.now();
+        TaskImportResponseDto response = newImportResponse();
+        try {
+            importTasks(format, inputStream, dto -> taskMapper.toTeamTask(dto, id, now), response);
+        } finally {
+            invalidateCalendarAfterImport(TaskCalendarCache.Key.team(id), response.getInserted());
+            publishBulkCreated(id, response.getInserted());
+        }
+        log.info("[TaskService] Imported {} team tasks for team with ID: {}, rejected {}",
+                response.getInserted(), id, response.getRejected());
+        return response;
     }
 
     @Override
@@ -100,16 +358,36 @@ public class TaskServiceImpl implements ITaskService {
         log.info("[TaskService] Updating task with ID: {}", id);
         Task task = getTaskById(id);
 
-        Task updatedTask = taskMapper.toEntity(dto);
-        updatedTask.setId(task.getId());
-        updatedTask.setCreatedAt(task.getCreatedAt());
-        updatedTask.setModifiedAt(DateTimeUTC.now());
-        updatedTask.setType(task.getType()); // because cannot be modified
-        updatedTask.setAssignedUsersId(task.getAssignedUsersId());
-
-        Task saved = taskRepository.save(updatedTask);
+        Task saved = taskRepository.save(taskMapper.toUpdatedEntity(dto, task, DateTimeUTC.now()));
         log.info("[TaskService] Task with ID: {} updated successfully", id);
-        return taskMapper.toDto(saved);
+        TaskResponseDto updated = taskMapper.toDto(saved);
+        calendarKeysOf(saved).forEach(key -> taskCalendarCache.put(key, taskMapper.toCalendarEntry(saved)));
+        publishUpdated(saved, updated);
+        return updated;
+    }
+
+    @Override
+    public TaskResponseDto patch(String id, TaskPatchRequestDto dto) {
+        log.info("[TaskService] Patching task with ID: {}", id);
+        Map<String, Object> fields = taskMapper.toChangedFields(dto);
+        if (fields.isEmpty()) {
+            log.info("[TaskService] Nothing to patch for task with ID: {}", id);
+            return taskMapper.toDto(getTaskById(id));
+        }
+
+        Task patched = taskRepository.updateFields(id, fields, DateTimeUTC.now()).orElseThrow(() -> {
+            if (!taskRepository.existsById(id)) {
+                log.warn("[TaskService] Task with ID: {} not found", id);
+                return new ResourceNotFoundException("Task with ID: " + id + " doesn't exist", DateTimeUTC.now());
+            }
+            log.warn("[TaskService] Patch of task with ID: {} rejected due to invalid date range", id);
+            return new InvalidDateRangeException("End date must be after or equal to start date", DateTimeUTC.now());
+        });
+        log.info("[TaskService] Task with ID: {} patched fields: {}", id, fields.keySet());
+        TaskResponseDto updated = taskMapper.toDto(patched);
+        calendarKeysOf(patched).forEach(key -> taskCalendarCache.put(key, taskMapper.toCalendarEntry(patched)));
+        publishUpdated(patched, updated);
+        return updated;
     }
 
     @Override
@@ -118,41 +396,59 @@ public class TaskServiceImpl implements ITaskService {
         log.info("[TaskService] Assigning user with ID: {} to task with ID: {}", userId, taskId);
         userService.assertUserExistsById(userId);
 
-        Task task = this.getTaskById(taskId);
+        Task task = taskRepository.findTeamRefById(taskId).orElseThrow(() -> {
+            log.warn("[TaskService] Task with ID: {} not found", taskId);
+            return new ResourceNotFoundException("Task with ID: " + taskId + " doesn't exist", DateTimeUTC.now());
+        });
         teamService.assertUserIsTeamMember(task.getTeamId(), userId);
 
-        if (!task.getAssignedUsersId().contains(userId))
-            task.getAssignedUsersId().add(userId);
-
-        taskRepository.save(task);
-        log.info("[TaskService] User with ID: {} assigned to task with ID: {}", userId, taskId);
+        if (taskRepository.addAssignedUser(taskId, task.getType(), userId, DateTimeUTC.now())) {
+            log.info("[TaskService] User with ID: {} assigned to task with ID: {}", userId, taskId);
+            if (task.getType() == TaskType.TEAM) {
+                publishTeamEvent(TaskEventDto.builder()
+                        .type(TaskEventType.ASSIGNED)
+                        .teamId(task.getTeamId())
+                        .taskId(taskId)
+                        .userId(userId)
+                        .build());
+            }
+        } else {
+            log.warn("[TaskService] User with ID: {} already assigned to task with ID: {}", userId, taskId);
+        }
     }
 
     @Override
-    public void unassignUserById(String userId) {
-        log.info("[TaskService] Unassigning user with ID: {} from all TEAM tasks", userId);
-        taskRepository.findByAssignedUsersIdAndType(userId, TaskType.TEAM)
-                .stream()
-                .peek(task -> {
-                    List<String> updatedUsers = task.getAssignedUsersId()
-                            .stream()
-                            .filter(id -> !Objects.equals(id, userId))
-                            .collect(Collectors.toList());
-                    task.setAssignedUsersId(updatedUsers);
-                    task.setModifiedAt(DateTimeUTC.now());
-                })
-                .forEach(task -> {
-                    taskRepository.save(task);
-                    log.info("[TaskService] User with ID: {} unassigned from task with ID: {}", userId, task.getId());
-                });
+    public void unassignUserFromTaskById(String taskId, AssignUserRequestDto dto) {
+        String userId = dto.getUserId();
+        log.info("[TaskService] Unassigning user with ID: {} from task with ID: {}", userId, taskId);
+        Optional<Task> unassigned = taskRepository.removeAssignedUser(taskId, TaskType.TEAM, userId, DateTimeUTC.now());
+        if (unassigned.isPresent()) {
+            log.info("[TaskService] User with ID: {} unassigned from task with ID: {}", userId, taskId);
+            publishTeamEvent(TaskEventDto.builder()
+                    .type(TaskEventType.UNASSIGNED)
+                    .teamId(unassigned.get().getTeamId())
+                    .taskId(taskId)
+                    .userId(userId)
+                    .build());
+            return;
+        }
+
+        assertTeamTaskExistsById(taskId);
+        log.warn("[TaskService] User with ID: {} is not assigned to task with ID: {}", userId, taskId);
     }
 
     @Override
     public void deletePersonalTask(String id) {
         log.info("[TaskService] Deleting personal task with ID: {}", id);
-        this.assertPersonalTaskExistsById(id);
+        Task task = taskRepository.findAssigneesByIdAndType(id, TaskType.PERSONAL).orElseThrow(() -> {
+            log.warn("[TaskService] Personal task with ID: {} does not exist", id);
+            return new ResourceNotFoundException("Task with ID: " + id + " doesn't exist", DateTimeUTC.now());
+        });
         taskRepository.deleteById(id);
         log.info("[TaskService] Personal task with ID: {} deleted", id);
+        if (task.getAssignedUsersId() != null) {
+            task.getAssignedUsersId().forEach(userId -> taskCalendarCache.remove(TaskCalendarCache.Key.user(userId), id));
+        }
     }
 
     @Override
@@ -163,20 +459,12 @@ public class TaskServiceImpl implements ITaskService {
         teamService.updateModifiedAtById(teamId);
         taskRepository.deleteByIdAndTeamIdAndType(taskId, teamId, TaskType.TEAM);
         log.info("[TaskService] Team task with ID: {} deleted", taskId);
-    }
-
-    @Override
-    public void deleteTeamTasksByTeamId(String teamId) {
-        log.info("[TaskService] Deleting all tasks for team with ID: {}", teamId);
-        taskRepository.deleteByTeamId(teamId);
-        log.info("[TaskService] All tasks for team with ID: {} deleted", teamId);
-    }
-
-    @Override
-    public void deleteUserTasksByUserId(String id) {
-        log.info("[TaskService] Deleting personal tasks for user with ID: {}", id);
-        taskRepository.deleteByAssignedUsersIdAndType(id, TaskType.PERSONAL);
-        log.info("[TaskService] Personal tasks for user with ID: {} deleted", id);
+        taskCalendarCache.remove(TaskCalendarCache.Key.team(teamId), taskId);
+        publishTeamEvent(TaskEventDto.builder()
+                .type(TaskEventType.DELETED)
+                .teamId(teamId)
+                .taskId(taskId)
+                .build());
     }
 
     @Override
@@ -195,10 +483,191 @@ public class TaskServiceImpl implements ITaskService {
         }
     }
 
+    private TaskBatchResponseDto createTasks(List<TaskRequestDto> dtos, Function<TaskRequestDto, Task> toTask, TaskCalendarCache.Key calendarKey) {
+        List<TaskBatchErrorDto> errors = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            TaskRequestDto dto = dtos.get(i);
+            List<String> violations = dto == null
+                    ? List.of("Task is required")
+                    : validator.validate(dto).stream().map(ConstraintViolation::getMessage).sorted().toList();
+            if (!violations.isEmpty()) {
+                errors.add(TaskBatchErrorDto.builder().index(i).messages(violations).build());
+                continue;
+            }
+
+            Task task = toTask.apply(dto);
+            if (task.getId() == null) {
+                task.setId(new ObjectId().toHexString());
+            }
+            tasks.add(task);
+            positions.add(i);
+        }
+
+        Set<Integer> failed = new HashSet<>();
+        if (!tasks.isEmpty()) {
+            try {
+                taskRepository.insertUnordered(tasks);
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    failed.add(error.getIndex());
+                    errors.add(TaskBatchErrorDto.builder()
+                            .index(positions.get(error.getIndex()))
+                            .messages(List.of(error.getMessage()))
+                            .build());
+                }
+            }
+        }
+
+        List<TaskResponseDto> created = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            if (!failed.contains(i)) {
+                created.add(taskMapper.toDto(tasks.get(i)));
+                taskCalendarCache.put(calendarKey, taskMapper.toCalendarEntry(tasks.get(i)));
+            }
+        }
+        errors.sort(Comparator.comparingInt(TaskBatchErrorDto::getIndex));
+        return TaskBatchResponseDto.builder()
+                .created(created)
+                .errors(errors)
+                .build();
+    }
+
+    private void publishUpdated(Task task, TaskResponseDto dto) {
+        if (task.getType() == TaskType.TEAM) {
+            publishTeamEvent(TaskEventDto.builder()
+                    .type(TaskEventType.UPDATED)
+                    .teamId(task.getTeamId())
+                    .taskId(task.getId())
+                    .task(dto)
+                    .build());
+        }
+    }
+
+    // batches and imports publish one summary event, so a large import cannot overflow subscriber buffers
+    private void publishBulkCreated(String teamId, long count) {
+        if (count > 0) {
+            publishTeamEvent(TaskEventDto.builder()
+                    .type(TaskEventType.BULK_CREATED)
+                    .teamId(teamId)
+                    .count(count)
+                    .build());
+        }
+    }
+
+    private void publishTeamEvent(TaskEventDto event) {
+        event.setOccurredAt(DateTimeUTC.now());
+        taskEventBroadcaster.publish(event);
+    }
+
+    private List<TaskCalendarCache.Key> calendarKeysOf(Task task) {
+        if (task.getType() == TaskType.TEAM) {
+            return List.of(TaskCalendarCache.Key.team(task.getTeamId()));
+        }
+        return task.getAssignedUsersId() == null
+                ? List.of()
+                : task.getAssignedUsersId().stream().map(TaskCalendarCache.Key::user).toList();
+    }
+
+    // an import can be far larger than the calendar it lands in, so the next read reloads it instead
+    private void invalidateCalendarAfterImport(TaskCalendarCache.Key key, long inserted) {
+        if (inserted > 0) {
+            taskCalendarCache.invalidate(key);
+        }
+    }
+
+    private static void assertValidCalendarWindow(LocalDateTime from, LocalDateTime to) {
+        if (to.isBefore(from)) {
+            log.warn("[TaskService] Calendar window from {} to {} rejected", from, to);
+            throw new InvalidDateRangeException("Calendar window must end after or at its start", DateTimeUTC.now());
+        }
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return dateTime == null ? null : Date.from(dateTime.toInstant(ZoneOffset.UTC));
+    }
+
     private Task getTaskById(String id) {
         return taskRepository.findById(id).orElseThrow(() -> {
             log.warn("[TaskService] Task with ID: {} not found", id);
             return new ResourceNotFoundException("Task with ID: " + id + " doesn't exist", DateTimeUTC.now());
         });
     }
+
+    private static TaskImportResponseDto newImportResponse() {
+        return TaskImportResponseDto.builder()
+                .errors(new ArrayList<>())
+                .build();
+    }
+
+    // fills the response as batches are committed, so callers still see the inserted count when it throws
+    private void importTasks(TaskFileFormat format, InputStream inputStream, Function<TaskRequestDto, Task> toTask,
+                             TaskImportResponseDto response) {
+        List<Task> batch = new ArrayList<>(importBatchSize);
+        List<Long> lines = new ArrayList<>(importBatchSize);
+
+        try (TaskImportReader reader = new TaskImportReader(inputStream, format, objectMapper.reader(), importMaxRecordLength)) {
+            try {
+                TaskImportReader.Row row;
+                while ((row = reader.next()) != null) {
+                    List<String> violations = row.error() != null
+                            ? List.of(row.error())
+                            : validator.validate(row.task()).stream().map(ConstraintViolation::getMessage).sorted().toList();
+                    if (!violations.isEmpty()) {
+                        rejectImportLine(response, row.line(), violations);
+                        continue;
+                    }
+
+                    batch.add(toTask.apply(row.task()));
+                    lines.add(row.line());
+                    if (batch.size() == importBatchSize) {
+                        flushImportBatch(response, batch, lines);
+                    }
+                }
+            } catch (InvalidImportFileException | IOException e) {
+                // earlier batches are already committed, so the caller gets the summary up to this line
+                log.warn("[TaskService] Import stopped at line {}: {}", reader.line(), e.getMessage());
+                stopImport(response, reader.line(), e instanceof InvalidImportFileException
+                        ? e.getMessage()
+                        : "Unable to read the import body");
+            }
+            flushImportBatch(response, batch, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushImportBatch(TaskImportResponseDto response, List<Task> batch, List<Long> lines) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int failed = 0;
+        try {
+            taskRepository.insertUnordered(batch);
+        } catch (BulkOperationException e) {
+            failed = e.getErrors().size();
+            for (BulkWriteError error : e.getErrors()) {
+                rejectImportLine(response, lines.get(error.getIndex()), List.of(error.getMessage()));
+            }
+        }
+        response.setInserted(response.getInserted() + batch.size() - failed);
+        log.debug("[TaskService] Flushed import batch of {} tasks, {} failed", batch.size(), failed);
+        batch.clear();
+        lines.clear();
+    }
+
+    // the line that stopped the import is reported even when the error list is already full
+    private void stopImport(TaskImportResponseDto response, long line, String message) {
+        response.setRejected(response.getRejected() + 1);
+        response.getErrors().add(TaskImportErrorDto.builder().line(line).messages(List.of(message)).build());
+    }
+
+    private void rejectImportLine(TaskImportResponseDto response, long line, List<String> messages) {
+        response.setRejected(response.getRejected() + 1);
+        if (response.getErrors().size() < importMaxReportedErrors) {
+            response.getErrors().add(TaskImportErrorDto.builder().line(line).messages(messages).build());
+        }
+    }
 }
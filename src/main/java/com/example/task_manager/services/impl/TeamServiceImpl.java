@@ -2,40 +2,83 @@ package com.example.task_manager.services.impl;
 
 import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
 import com.example.task_manager.dtos.request.team.TeamRequestDto;
-import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
+import com.example.task_manager.dtos.response.task.TaskEventDto;
+import com.example.task_manager.dtos.response.task.TaskPageResponseDto;
 import com.example.task_manager.dtos.response.team.TeamResponseDto;
 import com.example.task_manager.dtos.response.user.UserResponseDto;
 import com.example.task_manager.entities.Team;
+import com.example.task_manager.enums.DeletionResourceType;
+import com.example.task_manager.enums.TaskEventType;
+import com.example.task_manager.enums.TeamReadEngine;
+import com.example.task_manager.events.TaskEventBroadcaster;
 import com.example.task_manager.exceptions.ResourceNotFoundException;
 import com.example.task_manager.exceptions.UserIsNotTeamMemberException;
 import com.example.task_manager.mappers.TeamMapper;
 import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.services.IDeletionJobService;
 import com.example.task_manager.services.ITaskService;
 import com.example.task_manager.services.ITeamService;
 import com.example.task_manager.services.IUserService;
 import com.example.task_manager.utils.DateTimeUTC;
+import com.example.task_manager.utils.ETags;
+import com.example.task_manager.utils.ExistenceCache;
+import com.example.task_manager.utils.TeamMembershipCache;
+import com.example.task_manager.utils.FanOut;
 import com.example.task_manager.utils.TeamCollectionData;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 public class TeamServiceImpl implements ITeamService {
     private final TeamRepository teamRepository;
     private final IUserService userService;
     private final ITaskService taskService;
     private final TeamMapper teamMapper;
+    private final TeamReadEngine readEngine;
+    private final int embeddedTaskLimit;
+    private final ExistenceCache teamExistenceCache;
+    private final TeamMembershipCache teamMembershipCache;
+    private final AsyncTaskExecutor fanOutExecutor;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final IDeletionJobService deletionJobService;
 
-    public TeamServiceImpl(TeamRepository teamRepository, IUserService userService, @Lazy ITaskService taskService, TeamMapper teamMapper) {
+    public TeamServiceImpl(
+            TeamRepository teamRepository,
+            IUserService userService,
+            @Lazy ITaskService taskService,
+            TeamMapper teamMapper,
+            @Value("${task-manager.teams.read-engine:AGGREGATION}") TeamReadEngine readEngine,
+            @Value("${task-manager.teams.embedded-task-limit:0}") int embeddedTaskLimit,
+            @Qualifier("teamExistenceCache") ExistenceCache teamExistenceCache,
+            TeamMembershipCache teamMembershipCache,
+            @Qualifier("fanOutExecutor") AsyncTaskExecutor fanOutExecutor,
+            TaskEventBroadcaster taskEventBroadcaster,
+            IDeletionJobService deletionJobService
+    ) {
         this.teamRepository = teamRepository;
         this.userService = userService;
         this.taskService = taskService;
         this.teamMapper = teamMapper;
+        this.readEngine = readEngine;
+        this.embeddedTaskLimit = embeddedTaskLimit;
+        this.teamExistenceCache = teamExistenceCache;
+        this.teamMembershipCache = teamMembershipCache;
+        this.fanOutExecutor = fanOutExecutor;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.deletionJobService = deletionJobService;
     }
 
     @Override
@@ -43,11 +86,28 @@ public class TeamServiceImpl implements ITeamService {
         log.info("[TeamService] Fetching teams for user with ID: {}", id);
         UserResponseDto user = userService.getUserById(id);
 
-        List<Team> teams = teamRepository.findByOwnerId(id);
+        if (readEngine == TeamReadEngine.AGGREGATION) {
+            List<TeamResponseDto> teams = teamRepository.findTeamsWithCollectionsByOwnerId(id, embeddedTaskLimit)
+                    .stream()
+                    .map(team -> teamMapper.toDto(team, embeddedTaskLimit))
+                    .toList();
+            log.info("[TeamService] Found {} teams for user with ID: {} using aggregation", teams.size(), id);
+            return teams;
+        }
+
+        List<Team> teams = teamRepository.findByOwnerIdAndDeletionJobIdIsNull(id);
         log.info("[TeamService] Found {} teams for user with ID: {}", teams.size(), id);
-        return teams.stream()
-                .map(team -> teamMapper.toDto(team, this.collectTeamData(team)))
-                .collect(Collectors.toList());
+        List<TeamCollectionData> teamsData = this.collectTeamsData(teams);
+        return IntStream.range(0, teams.size())
+                .mapToObj(i -> teamMapper.toDto(teams.get(i), teamsData.get(i)))
+                .toList();
+    }
+
+    @Override
+    public String getTeamsETagByUserId(String id) {
+        userService.assertUserExistsById(id);
+        return ETags.weak("user-teams:" + id + ":" + embeddedTaskLimit,
+                teamRepository.findModificationStampByOwnerId(id));
     }
 
     @Override
@@ -61,6 +121,7 @@ public class TeamServiceImpl implements ITeamService {
         team.setModifiedAt(DateTimeUTC.now());
 
         Team savedTeam = teamRepository.save(team);
+        teamExistenceCache.add(savedTeam.getId());
         log.info("[TeamService] Successfully created team with ID: {}", savedTeam.getId());
         return teamMapper.toDto(savedTeam, TeamCollectionData.builder()
                 .members(List.of(owner))
@@ -101,63 +162,72 @@ public class TeamServiceImpl implements ITeamService {
         Team team = this.getTeamById(teamId);
 
         userService.assertUserExistsById(userId);
-        if (!team.getMembersId().contains(userId)) { // may throw ResourceAlreadyExistsException
-            team.getMembersId().add(userId);
-            team.setModifiedAt(DateTimeUTC.now());
-            log.info("[TeamService] User with ID: {} added to team with ID: {}", userId, teamId);
-        } else {
+        if (team.getMembersId().contains(userId)) {
             log.warn("[TeamService] User with ID: {} already in team with ID: {}", userId, teamId);
+            return;
         }
 
+        team.getMembersId().add(userId);
+        team.setModifiedAt(DateTimeUTC.now());
         teamRepository.save(team);
+        log.info("[TeamService] User with ID: {} added to team with ID: {}", userId, teamId);
+        taskEventBroadcaster.publish(TaskEventDto.builder()
+                .type(TaskEventType.MEMBER_ADDED)
+                .teamId(teamId)
+                .userId(userId)
+                .occurredAt(team.getModifiedAt())
+                .build());
     }
 
     @Override
-    public void delete(String id) {
+    public DeletionJobResponseDto delete(String id, String requestedBy) {
         log.info("[TeamService] Deleting team with ID: {}", id);
         assertTeamExistsById(id);
-        taskService.deleteTeamTasksByTeamId(id);
-        teamRepository.deleteById(id);
-        log.info("[TeamService] Successfully deleted team with ID: {}", id);
+        DeletionJobResponseDto job = deletionJobService.schedule(DeletionResourceType.TEAM, id, requestedBy);
+        teamExistenceCache.invalidate(id);
+        teamMembershipCache.invalidateTeam(id);
+        log.info("[TeamService] Team with ID: {} marked for deletion by job with ID: {}", id, job.getId());
+        return job;
     }
 
     @Override
-    public void deleteUserFromAllTeamsById(String userId) {
-        log.info("[TeamService] Removing user with ID: {} from all teams", userId);
-        userService.assertUserExistsById(userId);
-
-        teamRepository.findByMembersId(userId)
-                .stream()
-                .peek(team -> {
-                    List<String> updatedMembership = team.getMembersId()
-                            .stream()
-                            .filter(id -> !Objects.equals(id, userId))
-                            .toList();
-
-                    team.setMembersId(updatedMembership);
-                    team.setModifiedAt(DateTimeUTC.now());
-                })
-                .forEach(team -> {
-                    teamRepository.save(team);
-                    log.info("[TeamService] User with ID: {} removed from team with ID: {}", userId, team.getId());
-                });
+    public boolean isOwnerOfAnyTeam(String userId) {
+        return teamRepository.existsByOwnerId(userId);
     }
 
     @Override
     public void assertTeamExistsById(String id) {
-        if (!teamRepository.existsById(id)) {
+        if (teamExistenceCache.contains(id)) {
+            return;
+        }
+        long generation = teamExistenceCache.generation();
+        if (!teamRepository.existsByIdAndDeletionJobIdIsNull(id)) {
             log.warn("[TeamService] Team with ID: {} does not exist", id);
             throw new ResourceNotFoundException(
                     "Team with ID: " + id + " doesn't exist",
                     DateTimeUTC.now()
             );
         }
+        teamExistenceCache.add(id, generation);
+    }
+
+    @Override
+    public boolean isTeamMember(String teamId, String userId) {
+        if (teamMembershipCache.contains(teamId, userId)) {
+            return true;
+        }
+        long generation = teamMembershipCache.generation();
+        boolean member = teamRepository.existsByIdAndMembersIdAndDeletionJobIdIsNull(teamId, userId);
+        if (member) {
+            teamMembershipCache.add(teamId, userId, generation);
+        }
+        return member;
     }
 
     @Override
     public void assertUserIsTeamMember(String teamId, String userId) {
-        Team team = this.getTeamById(teamId);
-        if (!team.getMembersId().contains(userId)) {
+        if (!isTeamMember(teamId, userId)) {
+            assertTeamExistsById(teamId);
             log.warn("[TeamService] User with ID: {} is not a member of team with ID: {}", userId, teamId);
             throw new UserIsNotTeamMemberException(
                     "User with ID: " + userId + " isn't a member of the team with ID: " + teamId,
@@ -167,7 +237,7 @@ public class TeamServiceImpl implements ITeamService {
     }
 
     private Team getTeamById(String id) {
-        return teamRepository.findById(id).orElseThrow(() -> {
+        return teamRepository.findById(id).filter(team -> team.getDeletionJobId() == null).orElseThrow(() -> {
             log.warn("[TeamService] Team with ID: {} not found", id);
             return new ResourceNotFoundException(
                     "Team with ID: " + id + " doesn't exist",
@@ -177,17 +247,35 @@ public class TeamServiceImpl implements ITeamService {
     }
 
     private TeamCollectionData collectTeamData(Team team) {
-        List<UserResponseDto> members = team.getMembersId().stream()
-                .filter(userService::isUserPresentById)
-                .map(userService::getUserById)
-                .collect(Collectors.toList());
-
-        List<TaskResponseDto> tasks = taskService.getTasksByTeamId(team.getId());
-        log.info("[TeamService] Found {} members and {} tasks for team with ID: {}",
-                members.size(), tasks.size(), team.getId());
-        return TeamCollectionData.builder()
-                .members(members)
-                .tasks(tasks)
-                .build();
+        return this.collectTeamsData(List.of(team)).get(0);
+    }
+
+    private List<TeamCollectionData> collectTeamsData(List<Team> teams) {
+        FanOut fanOut = FanOut.on(fanOutExecutor);
+        List<Supplier<List<UserResponseDto>>> members = new ArrayList<>(teams.size());
+        List<Supplier<TaskPageResponseDto>> tasks = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            members.add(fanOut.fork(() -> userService.getUsersByIds(team.getMembersId())));
+            tasks.add(fanOut.fork(() -> embeddedTaskLimit > 0
+                    ? taskService.getTasksPageByTeamId(team.getId(), null, embeddedTaskLimit)
+                    : TaskPageResponseDto.builder()
+                            .tasks(taskService.getTasksByTeamId(team.getId()))
+                            .build()));
+        }
+        fanOut.join();
+
+        List<TeamCollectionData> teamsData = new ArrayList<>(teams.size());
+        for (int i = 0; i < teams.size(); i++) {
+            List<UserResponseDto> teamMembers = members.get(i).get();
+            TaskPageResponseDto teamTasks = tasks.get(i).get();
+            log.info("[TeamService] Found {} members and {} tasks for team with ID: {}",
+                    teamMembers.size(), teamTasks.getTasks().size(), teams.get(i).getId());
+            teamsData.add(TeamCollectionData.builder()
+                    .members(teamMembers)
+                    .tasks(teamTasks.getTasks())
+                    .tasksNextCursor(teamTasks.getNextCursor())
+                    .build());
+        }
+        return teamsData;
     }
 }
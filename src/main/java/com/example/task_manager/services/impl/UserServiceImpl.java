@@ -4,43 +4,72 @@ import com.example.task_manager.dtos.request.user.RegisterUserDto;
 import com.example.task_manager.dtos.request.user.UpdateUserPasswordDto;
 import com.example.task_manager.dtos.request.user.LoginUserDto;
 import com.example.task_manager.dtos.request.user.UserRequestDto;
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
 import com.example.task_manager.dtos.response.user.UserResponseDto;
 import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.DeletionResourceType;
+import com.example.task_manager.exceptions.InvalidCredentialsException;
 import com.example.task_manager.exceptions.ResourceAlreadyExistsException;
 import com.example.task_manager.exceptions.ResourceDeletionNotAllowedException;
 import com.example.task_manager.exceptions.ResourceNotFoundException;
 import com.example.task_manager.exceptions.UserPasswordMismatchException;
 import com.example.task_manager.mappers.UserMapper;
 import com.example.task_manager.repositories.UserRepository;
-import com.example.task_manager.services.ITaskService;
+import com.example.task_manager.security.PasswordHasher;
+import com.example.task_manager.services.IDeletionJobService;
 import com.example.task_manager.services.ITeamService;
 import com.example.task_manager.services.IUserService;
 import com.example.task_manager.utils.DateTimeUTC;
-import com.example.task_manager.utils.PasswordUtil;
+import com.example.task_manager.utils.ExistenceCache;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 public class UserServiceImpl implements IUserService {
     private final UserRepository userRepository;
-    private final ITaskService taskService;
     private final ITeamService teamService;
     private final UserMapper userMapper;
-
-    public UserServiceImpl(UserRepository userRepository, @Lazy ITaskService taskService, @Lazy ITeamService teamService, UserMapper userMapper) {
+    private final ExistenceCache userExistenceCache;
+    private final PasswordHasher passwordHasher;
+    private final IDeletionJobService deletionJobService;
+
+    public UserServiceImpl(
+            UserRepository userRepository,
+            @Lazy ITeamService teamService,
+            UserMapper userMapper,
+            @Qualifier("userExistenceCache") ExistenceCache userExistenceCache,
+            PasswordHasher passwordHasher,
+            IDeletionJobService deletionJobService
+    ) {
         this.userRepository = userRepository;
-        this.taskService = taskService;
         this.teamService = teamService;
         this.userMapper = userMapper;
+        this.userExistenceCache = userExistenceCache;
+        this.passwordHasher = passwordHasher;
+        this.deletionJobService = deletionJobService;
     }
 
     @Override
     public boolean isUserPresentById(String id) {
-        boolean exists = userRepository.existsById(id);
+        if (userExistenceCache.contains(id)) {
+            return true;
+        }
+        long generation = userExistenceCache.generation();
+        boolean exists = userRepository.existsByIdAndDeletionJobIdIsNull(id);
+        if (exists) {
+            userExistenceCache.add(id, generation);
+        }
         log.info("[UserService] User with ID: {} exists: {}", id, exists);
         return exists;
     }
@@ -53,6 +82,22 @@ public class UserServiceImpl implements IUserService {
         return userMapper.toDto(user);
     }
 
+    @Override
+    public List<UserResponseDto> getUsersByIds(List<String> ids) {
+        log.info("[UserService] Attempting to fetch {} users by IDs", ids.size());
+        Map<String, User> usersById = userRepository.findByIdInAndDeletionJobIdIsNull(ids)
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<UserResponseDto> users = ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .map(userMapper::toDto)
+                .toList();
+        log.info("[UserService] Successfully fetched {} of {} requested users", users.size(), ids.size());
+        return users;
+    }
+
     @Override
     public UserResponseDto register(RegisterUserDto dto) {
         String username = dto.getUsername();
@@ -66,11 +111,12 @@ public class UserServiceImpl implements IUserService {
         }
 
         User user = userMapper.toEntity(dto);
-        user.setPassword(PasswordUtil.hashPassword(dto.getPassword()));
+        user.setPassword(passwordHasher.hash(dto.getPassword()));
         user.setCreatedAt(DateTimeUTC.now());
         user.setModifiedAt(DateTimeUTC.now());
 
         User saved = userRepository.save(user);
+        userExistenceCache.add(saved.getId());
         log.info("[UserService] User registered successfully with ID: {}", saved.getId());
         return userMapper.toDto(saved);
     }
@@ -96,26 +142,23 @@ public class UserServiceImpl implements IUserService {
         log.info("[UserService] Attempting to update password for user with ID: {}", id);
         User user = this.getUserEntityById(id);
 
-        if (!PasswordUtil.verifyPassword(dto.getOldPassword(), user.getPassword())) {
+        if (!passwordHasher.verify(dto.getOldPassword(), user.getPassword())) {
             log.warn("[UserService] Password update failed: password mismatch for user with ID: {}", id);
             throw new UserPasswordMismatchException("Password does not match the one stored", DateTimeUTC.now());
         }
 
-        user.setPassword(PasswordUtil.hashPassword(dto.getNewPassword()));
+        user.setPassword(passwordHasher.hash(dto.getNewPassword()));
         user.setModifiedAt(DateTimeUTC.now());
         userRepository.save(user);
         log.info("[UserService] Password updated successfully for user with ID: {}", id);
     }
 
     @Override
-    public void delete(String id) {
+    public DeletionJobResponseDto delete(String id) {
         log.info("[UserService] Attempting to delete user with ID: {}", id);
         assertUserExistsById(id);
 
-        if (teamService.getTeamsByUserId(id)
-                .stream()
-                .anyMatch(team -> Objects.equals(team.getOwnerId(), id))
-        ) {
+        if (teamService.isOwnerOfAnyTeam(id)) {
             log.warn("[UserService] Deletion blocked: user with ID: {} is an owner of a team", id);
             throw new ResourceDeletionNotAllowedException(
                     "User with ID: " + id + " cannot be deleted due to ownership of other resources",
@@ -123,28 +166,46 @@ public class UserServiceImpl implements IUserService {
             );
         }
 
-        taskService.deleteUserTasksByUserId(id);
-        taskService.unassignUserById(id);
-        teamService.deleteUserFromAllTeamsById(id);
-        userRepository.deleteById(id);
-        log.info("[UserService] User with ID {} deleted successfully", id);
+        DeletionJobResponseDto job = deletionJobService.schedule(DeletionResourceType.USER, id, id);
+        userExistenceCache.invalidate(id);
+        log.info("[UserService] User with ID: {} marked for deletion by job with ID: {}", id, job.getId());
+        return job;
     }
 
     @Override
-    public void login(LoginUserDto dto) {
-
+    public UserResponseDto login(LoginUserDto dto) {
+        String username = dto.getUsername();
+        log.info("[UserService] Attempting to log in user with username: {}", username);
+        User user = userRepository.findByUsername(username)
+                .filter(found -> found.getDeletionJobId() == null)
+                .filter(found -> passwordHasher.verify(dto.getPassword(), found.getPassword()))
+                .orElseThrow(() -> {
+                    log.warn("[UserService] Login failed for username: {}", username);
+                    return new InvalidCredentialsException("Invalid username or password", DateTimeUTC.now());
+                });
+        if (passwordHasher.needsRehash(user.getPassword())
+                && userRepository.replacePasswordHash(user.getId(), user.getPassword(), passwordHasher.hash(dto.getPassword()))) {
+            log.info("[UserService] Rehashed password of user with ID: {} with bcrypt cost {}", user.getId(), passwordHasher.getCost());
+        }
+        log.info("[UserService] User with ID: {} logged in successfully", user.getId());
+        return userMapper.toDto(user);
     }
 
     @Override
     public void assertUserExistsById(String id) {
-        if (!userRepository.existsById(id)) {
+        if (userExistenceCache.contains(id)) {
+            return;
+        }
+        long generation = userExistenceCache.generation();
+        if (!userRepository.existsByIdAndDeletionJobIdIsNull(id)) {
             log.warn("[UserService] User with ID: {} does not exist", id);
             throw new ResourceNotFoundException("User with ID: " + id + " doesn't exist", DateTimeUTC.now());
         }
+        userExistenceCache.add(id, generation);
     }
 
     private User getUserEntityById(String id) {
-        return userRepository.findById(id).orElseThrow(() -> {
+        return userRepository.findById(id).filter(user -> user.getDeletionJobId() == null).orElseThrow(() -> {
             log.warn("[UserService] User with ID: {} not found", id);
             return new ResourceNotFoundException("User with ID: " + id + " doesn't exist", DateTimeUTC.now());
         });
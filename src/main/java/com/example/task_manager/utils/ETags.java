@@ -0,0 +1,30 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.repositories.projections.ModificationStamp;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+public class ETags {
+    // the sum of modifiedAt changes whenever any document is touched, even when the latest
+    // timestamp and the count stay the same within one millisecond; the tags are weak because
+    // Tomcat only compresses responses whose ETag does not promise byte-identical bodies
+    public static String weak(String resource, ModificationStamp stamp) {
+        String version = resource + ":" + stamp.getCount() + ":" + stamp.getModifiedAtSum() + ":"
+                + (stamp.getLastModifiedAt() == null ? 0 : stamp.getLastModifiedAt().getTime());
+        return weakTag(version);
+    }
+
+    // JSON, Smile and CBOR bodies of one version differ byte for byte, so the requested
+    // representation is part of the tag and the responses vary by Accept
+    public static String forRepresentation(String eTag, String accept) {
+        if (accept == null || accept.isBlank()) {
+            return eTag;
+        }
+        return weakTag(eTag + ":" + accept);
+    }
+
+    private static String weakTag(String value) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
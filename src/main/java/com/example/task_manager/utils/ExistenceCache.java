@@ -0,0 +1,60 @@
+package com.example.task_manager.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// an ID found by a query is only added with the generation read before that query, so an
+// invalidation that lands while the query runs cannot be overwritten by a late add
+public class ExistenceCache {
+    private final Cache<String, Boolean> knownIds;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ExistenceCache(long maximumSize, Duration expireAfterWrite) {
+        this.knownIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public boolean contains(String id) {
+        return knownIds.getIfPresent(id) != null;
+    }
+
+    public long generation() {
+        return invalidations.get();
+    }
+
+    public void add(String id) {
+        knownIds.put(id, Boolean.TRUE);
+    }
+
+    // re-checked after the put: an invalidation either bumped the generation before the check
+    // or runs after the put and removes the entry itself
+    public void add(String id, long generation) {
+        knownIds.put(id, Boolean.TRUE);
+        if (invalidations.get() != generation) {
+            knownIds.invalidate(id);
+        }
+    }
+
+    public void invalidate(String id) {
+        invalidations.incrementAndGet();
+        knownIds.invalidate(id);
+    }
+
+    public void invalidateIf(Predicate<String> ids) {
+        invalidations.incrementAndGet();
+        knownIds.asMap().keySet().removeIf(ids);
+    }
+
+    public void monitor(MeterRegistry meterRegistry, String name) {
+        CaffeineCacheMetrics.monitor(meterRegistry, knownIds, name);
+    }
+}
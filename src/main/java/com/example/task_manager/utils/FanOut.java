@@ -0,0 +1,84 @@
+package com.example.task_manager.utils;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Runs a group of calls on an executor. Each fork keeps its own result type, and
+ * {@link #join()} waits for all of them. The first failure cancels the remaining
+ * calls and is rethrown to the caller.
+ */
+public final class FanOut {
+    private final AsyncTaskExecutor executor;
+    private final List<Future<?>> forks = new ArrayList<>();
+    private final BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+
+    private FanOut(AsyncTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    public static FanOut on(AsyncTaskExecutor executor) {
+        return new FanOut(executor);
+    }
+
+    /**
+     * Starts the call and returns its result holder, which can be read once {@link #join()} returned.
+     */
+    public <T> Supplier<T> fork(Callable<T> call) {
+        FutureTask<T> task = new FutureTask<>(call) {
+            @Override
+            protected void done() {
+                completed.add(this);
+            }
+        };
+        forks.add(task);
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            forks.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return () -> {
+            if (!task.isDone()) {
+                throw new IllegalStateException("Fan-out result read before join");
+            }
+            return resultOf(task);
+        };
+    }
+
+    public void join() {
+        try {
+            for (int i = 0; i < forks.size(); i++) {
+                resultOf(completed.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for fan-out results", e);
+        } finally {
+            forks.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <T> T resultOf(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for fan-out results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Fan-out call failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.task_manager.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// a treap ordered by (start, id) where every node also keeps the latest end in its subtree,
+// so an overlap query skips any subtree that ends before the window and stops at the first
+// node starting after it; inserts and removals stay O(log n) and results come out by start
+public class IntervalTree<V> {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node<V>> nodesById = new HashMap<>();
+    private Node<V> root;
+
+    public void put(String id, long start, long end, V value) {
+        lock.writeLock().lock();
+        try {
+            Node<V> previous = nodesById.remove(id);
+            if (previous != null) {
+                root = remove(root, previous.start, id);
+            }
+            Node<V> node = new Node<>(id, start, end, value, ThreadLocalRandom.current().nextInt());
+            nodesById.put(id, node);
+            root = insert(root, node);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Node<V> previous = nodesById.remove(id);
+            if (previous == null) {
+                return false;
+            }
+            root = remove(root, previous.start, id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<V> overlapping(long from, long to) {
+        lock.readLock().lock();
+        try {
+            List<V> values = new ArrayList<>();
+            collect(root, from, to, values);
+            return values;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <V> Node<V> insert(Node<V> node, Node<V> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node<V>[] parts = split(node, inserted.start, inserted.id);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            return update(inserted);
+        }
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return update(node);
+    }
+
+    private static <V> Node<V> remove(Node<V> node, long start, String id) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(start, id, node);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, start, id);
+        } else {
+            node.right = remove(node.right, start, id);
+        }
+        return update(node);
+    }
+
+    // splits into nodes ordered before (start, id) and the rest
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] split(Node<V> node, long start, String id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(start, id, node) > 0) {
+            Node<V>[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node<V>[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    private static <V> Node<V> merge(Node<V> left, Node<V> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static <V> void collect(Node<V> node, long from, long to, List<V> values) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, values);
+        if (node.start > to) {
+            return;
+        }
+        if (node.end >= from) {
+            values.add(node.value);
+        }
+        collect(node.right, from, to, values);
+    }
+
+    private static <V> Node<V> update(Node<V> node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static int compare(long start, String id, Node<?> node) {
+        int comparison = Long.compare(start, node.start);
+        return comparison != 0 ? comparison : id.compareTo(node.id);
+    }
+
+    private static final class Node<V> {
+        private final String id;
+        private final long start;
+        private final long end;
+        private final V value;
+        private final int priority;
+        private long maxEnd;
+        private Node<V> left;
+        private Node<V> right;
+
+        private Node(String id, long start, long end, V value, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+}
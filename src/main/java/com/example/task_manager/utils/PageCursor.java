@@ -0,0 +1,58 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.exceptions.InvalidPageCursorException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+public class PageCursor {
+    public static String encode(String lastId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(lastId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String cursor) {
+        try {
+            String lastId = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (ObjectId.isValid(lastId)) {
+                return lastId;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        throw invalid(cursor);
+    }
+
+    // cursors of date-sorted pages carry the sort field and value of the last task, so the next
+    // page resumes after (value, id) and a cursor cannot be replayed against another sort
+    public static String encode(TaskSortField sort, Date lastValue, String lastId) {
+        if (sort == TaskSortField.ID) {
+            return encode(lastId);
+        }
+        return encode(sort.name() + ":" + lastValue.getTime() + ":" + lastId);
+    }
+
+    public static Position decode(String cursor, TaskSortField sort) {
+        if (sort == TaskSortField.ID) {
+            return new Position(null, decode(cursor));
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", 3);
+            if (parts.length == 3 && parts[0].equals(sort.name()) && ObjectId.isValid(parts[2])) {
+                return new Position(new Date(Long.parseLong(parts[1])), parts[2]);
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        throw invalid(cursor);
+    }
+
+    private static InvalidPageCursorException invalid(String cursor) {
+        return new InvalidPageCursorException("Page cursor: " + cursor + " is invalid", DateTimeUTC.now());
+    }
+
+    public record Position(Date lastValue, String lastId) {
+    }
+}
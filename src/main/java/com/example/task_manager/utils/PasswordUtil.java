@@ -1,16 +0,0 @@
-package com.example.task_manager.utils;
-
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-
-public class PasswordUtil {
-    private static final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-
-    public static String hashPassword(String plainPassword) {
-        return passwordEncoder.encode(plainPassword);
-    }
-
-    public static boolean verifyPassword(String plainPassword, String hashedPassword) {
-        return passwordEncoder.matches(plainPassword, hashedPassword);
-    }
-}
@@ -0,0 +1,84 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.enums.TaskType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// one interval tree per team or user calendar, loaded on first read and kept current by the
+// writes of this instance; the expiry counts from the load, so local updates never keep a tree
+// alive past it and writes made elsewhere show up after at most one expiry
+public class TaskCalendarCache {
+    private final Cache<Key, IntervalTree<TaskCalendarEntryDto>> trees;
+
+    public TaskCalendarCache(long maximumCalendars, Duration expireAfterLoad) {
+        this.trees = Caffeine.newBuilder()
+                .maximumSize(maximumCalendars)
+                .expireAfter(Expiry.<Key, IntervalTree<TaskCalendarEntryDto>>creating((key, tree) -> expireAfterLoad))
+                .recordStats()
+                .build();
+    }
+
+    public List<TaskCalendarEntryDto> overlapping(Key key, Date from, Date to, Supplier<Stream<TaskCalendarEntryDto>> loader) {
+        return trees.get(key, ignored -> load(loader)).overlapping(from.getTime(), to.getTime());
+    }
+
+    // updates go through compute so they wait for a load in flight instead of being lost to it
+    public void put(Key key, TaskCalendarEntryDto entry) {
+        trees.asMap().computeIfPresent(key, (ignored, tree) -> {
+            add(tree, entry);
+            return tree;
+        });
+    }
+
+    public void remove(Key key, String taskId) {
+        trees.asMap().computeIfPresent(key, (ignored, tree) -> {
+            tree.remove(taskId);
+            return tree;
+        });
+    }
+
+    public void invalidate(Key key) {
+        trees.invalidate(key);
+    }
+
+    public void monitor(MeterRegistry meterRegistry, String name) {
+        CaffeineCacheMetrics.monitor(meterRegistry, trees, name);
+    }
+
+    private static IntervalTree<TaskCalendarEntryDto> load(Supplier<Stream<TaskCalendarEntryDto>> loader) {
+        IntervalTree<TaskCalendarEntryDto> tree = new IntervalTree<>();
+        try (Stream<TaskCalendarEntryDto> entries = loader.get()) {
+            entries.forEach(entry -> add(tree, entry));
+        }
+        return tree;
+    }
+
+    private static void add(IntervalTree<TaskCalendarEntryDto> tree, TaskCalendarEntryDto entry) {
+        if (entry.getStart() == null || entry.getEnd() == null) {
+            tree.remove(entry.getId());
+            return;
+        }
+        tree.put(entry.getId(), entry.getStart().getTime(), entry.getEnd().getTime(), entry);
+    }
+
+    // team calendars hold the TEAM tasks of a team, user calendars the PERSONAL tasks of a user
+    public record Key(TaskType type, String ownerId) {
+        public static Key team(String teamId) {
+            return new Key(TaskType.TEAM, teamId);
+        }
+
+        public static Key user(String userId) {
+            return new Key(TaskType.PERSONAL, userId);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.enums.TaskFileFormat;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class TaskExport {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,title,description,priority,status,assignedUsersId,start,end";
+
+    @Getter
+    private final TaskFileFormat format;
+    private final Supplier<Stream<TaskResponseDto>> tasks;
+    private final ObjectWriter jsonWriter;
+
+    public TaskExport(TaskFileFormat format, Supplier<Stream<TaskResponseDto>> tasks, ObjectWriter jsonWriter) {
+        this.format = format;
+        this.tasks = tasks;
+        this.jsonWriter = jsonWriter;
+    }
+
+    public long writeTo(OutputStream outputStream) throws IOException {
+        try (Stream<TaskResponseDto> stream = tasks.get()) {
+            return format == TaskFileFormat.CSV
+                    ? writeCsv(stream.iterator(), outputStream)
+                    : writeNdjson(stream.iterator(), outputStream);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeNdjson(Iterator<TaskResponseDto> tasks, OutputStream outputStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        long count = 0;
+        while (tasks.hasNext()) {
+            out.write(jsonWriter.writeValueAsBytes(tasks.next()));
+            out.write('\n');
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<TaskResponseDto> tasks, OutputStream outputStream) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        out.write(CSV_HEADER);
+        out.write("\r\n");
+        long count = 0;
+        while (tasks.hasNext()) {
+            TaskResponseDto task = tasks.next();
+            out.write(String.join(",",
+                    csv(task.getId()),
+                    csv(task.getTitle()),
+                    csv(task.getDescription()),
+                    csv(task.getPriority()),
+                    csv(task.getStatus()),
+                    csv(task.getAssignedUsersId()),
+                    csv(task.getStart()),
+                    csv(task.getEnd())
+            ));
+            out.write("\r\n");
+            count++;
+        }
+        out.flush();
+        return count;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text;
+        if (value instanceof Date date) {
+            text = date.toInstant().toString();
+        } else if (value instanceof List<?> list) {
+            text = String.join(";", list.stream().map(String::valueOf).toList());
+        } else {
+            text = value.toString();
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.enums.TaskFileFormat;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.exceptions.InvalidImportFileException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class TaskImportReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final TaskFileFormat format;
+    private final ObjectReader jsonReader;
+    private final int maxRecordLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder lineBuilder = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean lineTooLong;
+    private Map<String, Integer> csvColumns;
+    private long lineNumber;
+
+    public record Row(long line, TaskRequestDto task, String error) {
+    }
+
+    // a record is one NDJSON line or one CSV record including its quoted line breaks
+    public TaskImportReader(InputStream inputStream, TaskFileFormat format, ObjectReader jsonReader, int maxRecordLength) {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.format = format;
+        this.jsonReader = jsonReader.forType(TaskRequestDto.class);
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    public Row next() throws IOException {
+        return format == TaskFileFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    // the last line read, so a failure that stops the import can be reported where it happened
+    public long line() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row nextNdjson() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (!lineTooLong && line.isBlank());
+
+        if (lineTooLong) {
+            return new Row(lineNumber, null, "Line exceeds " + maxRecordLength + " characters");
+        }
+        try {
+            TaskRequestDto task = jsonReader.readValue(line);
+            // imported tasks always get new IDs, like the CSV rows that have no ID column
+            task.setId(null);
+            return new Row(lineNumber, task, null);
+        } catch (JsonProcessingException e) {
+            return new Row(lineNumber, null, "Unable to parse JSON line");
+        }
+    }
+
+    private Row nextCsv() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            csvColumns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                csvColumns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : List.of("title", "description", "priority", "start", "end")) {
+                if (!csvColumns.containsKey(required)) {
+                    throw new InvalidImportFileException("CSV header is missing column: " + required, DateTimeUTC.now());
+                }
+            }
+        }
+
+        List<String> record;
+        long line;
+        do {
+            line = lineNumber + 1;
+            record = readCsvRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isEmpty());
+
+        try {
+            return new Row(line, TaskRequestDto.builder()
+                    .title(column(record, "title"))
+                    .description(column(record, "description"))
+                    .priority(enumColumn(record, "priority", TaskPriority.class))
+                    .status(enumColumn(record, "status", TaskStatus.class))
+                    .start(dateColumn(record, "start"))
+                    .end(dateColumn(record, "end"))
+                    .build(), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(line, null, e.getMessage());
+        }
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        long firstLine = lineNumber;
+        int length = line.length();
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (lineTooLong || length > maxRecordLength) {
+                // the quoting state past the cut is unknown, so there is no safe place to resume
+                throw new InvalidImportFileException("Record at line " + firstLine + " exceeds "
+                        + maxRecordLength + " characters", DateTimeUTC.now());
+            }
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = readLine();
+                if (line == null) {
+                    throw new InvalidImportFileException("Unterminated quoted field at line " + lineNumber, DateTimeUTC.now());
+                }
+                lineNumber++;
+                length += line.length() + 1;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // reads up to the next line feed without keeping more than the record limit in memory;
+    // a longer line is consumed to its end and flagged, and null means the input is exhausted
+    private String readLine() throws IOException {
+        lineBuilder.setLength(0);
+        lineTooLong = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (!read) {
+                        return null;
+                    }
+                    break;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int count = position - start;
+            if (lineBuilder.length() + count > maxRecordLength + 1) {
+                lineTooLong = true;
+            } else if (!lineTooLong) {
+                lineBuilder.append(buffer, start, count);
+            }
+            if (position < limit) {
+                position++;
+                break;
+            }
+        }
+        int length = lineBuilder.length();
+        if (length > 0 && lineBuilder.charAt(length - 1) == '\r') {
+            lineBuilder.setLength(length - 1);
+        }
+        if (lineBuilder.length() > maxRecordLength) {
+            lineTooLong = true;
+        }
+        return lineTooLong ? "" : lineBuilder.toString();
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = csvColumns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private <E extends Enum<E>> E enumColumn(List<String> record, String name, Class<E> type) {
+        String value = column(record, name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private Date dateColumn(List<String> record, String name) {
+        String value = column(record, name);
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            Instant instant = trimmed.endsWith("Z")
+                    ? Instant.parse(trimmed)
+                    : LocalDateTime.parse(trimmed).toInstant(ZoneOffset.UTC);
+            return Date.from(instant);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + " date: " + value);
+        }
+    }
+}
@@ -16,4 +16,5 @@ import java.util.List;
 public class TeamCollectionData {
     private List<UserResponseDto> members;
     private List<TaskResponseDto> tasks;
+    private String tasksNextCursor;
 }
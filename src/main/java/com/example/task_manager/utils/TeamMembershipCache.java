@@ -0,0 +1,45 @@
+package com.example.task_manager.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+// confirmed team memberships, so team-scoped authorization does not query on every request;
+// only members are cached and an entry goes when its team is deleted or its user leaves every team
+public class TeamMembershipCache {
+    private final ExistenceCache memberships;
+
+    public TeamMembershipCache(long maximumSize, Duration expireAfterWrite) {
+        this.memberships = new ExistenceCache(maximumSize, expireAfterWrite);
+    }
+
+    public boolean contains(String teamId, String userId) {
+        return memberships.contains(key(teamId, userId));
+    }
+
+    public long generation() {
+        return memberships.generation();
+    }
+
+    public void add(String teamId, String userId, long generation) {
+        memberships.add(key(teamId, userId), generation);
+    }
+
+    public void invalidateTeam(String teamId) {
+        String prefix = teamId + ":";
+        memberships.invalidateIf(key -> key.startsWith(prefix));
+    }
+
+    public void invalidateUser(String userId) {
+        String suffix = ":" + userId;
+        memberships.invalidateIf(key -> key.endsWith(suffix));
+    }
+
+    public void monitor(MeterRegistry meterRegistry, String name) {
+        memberships.monitor(meterRegistry, name);
+    }
+
+    private static String key(String teamId, String userId) {
+        return teamId + ":" + userId;
+    }
+}
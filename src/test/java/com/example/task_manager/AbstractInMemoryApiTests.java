@@ -0,0 +1,21 @@
+package com.example.task_manager;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+// runs the full servlet stack against the in-memory backend, so HTTP behaviour is covered without Docker
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+public abstract class AbstractInMemoryApiTests implements ApiTestSupport {
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Override
+    public MockMvc mockMvc() {
+        return mockMvc;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.task_manager;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest(properties = "task-manager.mongo.create-indexes=true")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class AbstractMongoIntegrationTests {
+    @Container
+    @ServiceConnection
+    static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+}
@@ -0,0 +1,61 @@
+package com.example.task_manager;
+
+import com.jayway.jsonpath.JsonPath;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// registers users and creates teams and tasks through the API, for tests against either backend
+public interface ApiTestSupport {
+    AtomicInteger USER_NUMBER = new AtomicInteger();
+
+    MockMvc mockMvc();
+
+    default Session register() throws Exception {
+        String username = "user" + System.nanoTime() % 1_000_000 + "_" + USER_NUMBER.incrementAndGet();
+        String credentials = """
+                {"username": "%s", "email": "%s@example.com", "password": "password1"}
+                """.formatted(username, username);
+        mockMvc().perform(post("/api/v1/auth/register").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isCreated());
+        String login = mockMvc().perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(credentials))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return new Session(JsonPath.read(login, "$.userId"), JsonPath.read(login, "$.accessToken"));
+    }
+
+    default String createTeam(Session owner) throws Exception {
+        String team = mockMvc().perform(as(owner, post("/api/v1/teams"))
+                        .content("""
+                                {"name": "team", "ownerId": "%s"}
+                                """.formatted(owner.userId())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(team, "$.id");
+    }
+
+    default String createTask(Session session, String path, String title, String start, String end) throws Exception {
+        String task = mockMvc().perform(as(session, post(path))
+                        .content("""
+                                {"title": "%s", "description": "description", "priority": "LOW", "start": "%s", "end": "%s"}
+                                """.formatted(title, start, end)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(task, "$.id");
+    }
+
+    default MockHttpServletRequestBuilder as(Session session, MockHttpServletRequestBuilder request) {
+        return request
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + session.accessToken())
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+
+    record Session(String userId, String accessToken) {
+    }
+}
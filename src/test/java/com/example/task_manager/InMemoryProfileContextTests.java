@@ -0,0 +1,24 @@
+package com.example.task_manager;
+
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.memory.InMemoryTaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("in-memory")
+class InMemoryProfileContextTests {
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Test
+	void contextLoads() {
+		assertThat(taskRepository).isInstanceOf(InMemoryTaskRepository.class);
+	}
+
+}
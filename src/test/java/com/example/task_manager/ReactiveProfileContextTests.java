@@ -0,0 +1,68 @@
+package com.example.task_manager;
+
+import com.example.task_manager.security.TokenService;
+import com.example.task_manager.services.ITaskService;
+import com.example.task_manager.services.ITeamService;
+import com.example.task_manager.services.IUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveProfileContextTests {
+
+	private static final String USER_ID = "64b7f0c2a1b2c3d4e5f60701";
+	private static final String OTHER_USER_ID = "64b7f0c2a1b2c3d4e5f60702";
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private TokenService tokenService;
+
+	@Test
+	void contextLoads() {
+	}
+
+	@Test
+	void reactiveStackStartsNoBlockingMongoClientOrServices() {
+		assertThat(applicationContext.getBeanNamesForType(com.mongodb.client.MongoClient.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(MongoTemplate.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(MongoRepository.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(ITaskService.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(ITeamService.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(IUserService.class)).isEmpty();
+	}
+
+	@Test
+	void reactiveRoutesRequireAValidBearerToken() {
+		WebTestClient client = WebTestClient.bindToApplicationContext(applicationContext).build();
+
+		client.get().uri("/api/v1/teams/user/" + USER_ID).exchange()
+				.expectStatus().isUnauthorized();
+		client.get().uri("/api/v1/teams/user/" + USER_ID).header(HttpHeaders.AUTHORIZATION, "Bearer invalid").exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void userRoutesAreOnlyForThatUser() {
+		WebTestClient client = WebTestClient.bindToApplicationContext(applicationContext).build();
+		String token = tokenService.issue(OTHER_USER_ID, new Date());
+
+		client.get().uri("/api/v1/tasks/user/" + USER_ID).header(HttpHeaders.AUTHORIZATION, "Bearer " + token).exchange()
+				.expectStatus().isForbidden()
+				.expectBody().jsonPath("$.message").isEqualTo("Access denied");
+	}
+
+}
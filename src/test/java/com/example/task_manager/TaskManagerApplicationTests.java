@@ -1,13 +1,30 @@
 package com.example.task_manager;
 
+import com.mongodb.reactivestreams.client.MongoClient;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class TaskManagerApplicationTests {
 
+	@Autowired
+	private ApplicationContext applicationContext;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void servletStackStartsNoReactiveMongoClient() {
+		assertThat(applicationContext.getBeanNamesForType(MongoClient.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(ReactiveMongoTemplate.class)).isEmpty();
+		assertThat(applicationContext.getBeanNamesForType(ReactiveMongoRepository.class)).isEmpty();
+	}
+
 }
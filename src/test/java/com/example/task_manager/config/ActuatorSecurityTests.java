@@ -0,0 +1,26 @@
+package com.example.task_manager.config;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ActuatorSecurityTests extends AbstractInMemoryApiTests {
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void otherEndpointsRequireAToken() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/http.server.requests")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/info")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator")).andExpect(status().isUnauthorized());
+
+        Session user = register();
+        mockMvc.perform(as(user, get("/actuator/metrics"))).andExpect(status().isOk());
+    }
+}
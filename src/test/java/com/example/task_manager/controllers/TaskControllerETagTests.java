@@ -0,0 +1,64 @@
+package com.example.task_manager.controllers;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerETagTests extends AbstractInMemoryApiTests {
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        Session owner = register();
+        String teamId = createTeam(owner);
+        createTask(owner, "/api/v1/tasks/team/" + teamId, "task", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+        String eTag = eTagOf(owner, teamId);
+
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId)).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void eTagChangesWhenAUserIsAssigned() throws Exception {
+        Session owner = register();
+        String teamId = createTeam(owner);
+        String taskId = createTask(owner, "/api/v1/tasks/team/" + teamId, "task", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+        String before = eTagOf(owner, teamId);
+
+        mockMvc.perform(as(owner, patch("/api/v1/tasks/" + taskId + "/assign")).content("""
+                        {"userId": "%s"}
+                        """.formatted(owner.userId())))
+                .andExpect(status().isNoContent());
+
+        assertNotEquals(before, eTagOf(owner, teamId));
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId)).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void eTagChangesWhenATaskIsDeleted() throws Exception {
+        Session owner = register();
+        String teamId = createTeam(owner);
+        createTask(owner, "/api/v1/tasks/team/" + teamId, "kept", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+        String taskId = createTask(owner, "/api/v1/tasks/team/" + teamId, "deleted", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+        String before = eTagOf(owner, teamId);
+
+        mockMvc.perform(as(owner, delete("/api/v1/tasks/" + taskId + "/team/" + teamId)))
+                .andExpect(status().isOk());
+
+        assertNotEquals(before, eTagOf(owner, teamId));
+    }
+
+    private String eTagOf(Session session, String teamId) throws Exception {
+        return mockMvc.perform(as(session, get("/api/v1/tasks/team/" + teamId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.task_manager.controllers;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerExportTests extends AbstractInMemoryApiTests {
+
+    @Test
+    void exportRunsWithItsOwnTimeout() throws Exception {
+        Session user = register();
+        createTask(user, "/api/v1/tasks/user/" + user.userId(), "exported", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+
+        MvcResult started = mockMvc.perform(as(user, get("/api/v1/tasks/user/" + user.userId() + "/export")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks-user-" + user.userId() + ".ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(1).first().asString().contains("\"title\":\"exported\"");
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.task_manager.controllers;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerPatchTests extends AbstractInMemoryApiTests {
+
+    @Test
+    void patchChangesOnlyTheGivenFields() throws Exception {
+        Session user = register();
+        String taskId = createTask(user, "/api/v1/tasks/user/" + user.userId(), "original", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+
+        mockMvc.perform(as(user, patch("/api/v1/tasks/" + taskId)).content("""
+                        {"status": "IN_PROGRESS", "priority": "HIGH"}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.priority").value("HIGH"))
+                .andExpect(jsonPath("$.title").value("original"))
+                .andExpect(jsonPath("$.description").value("description"))
+                .andExpect(jsonPath("$.start").value("2030-01-10T10:00:00.000+00:00"));
+
+        mockMvc.perform(as(user, get("/api/v1/tasks/user/" + user.userId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$[0].title").value("original"));
+    }
+
+    @Test
+    void patchOfMissingTaskIsNotFound() throws Exception {
+        Session user = register();
+
+        mockMvc.perform(as(user, patch("/api/v1/tasks/" + new ObjectId().toHexString())).content("""
+                        {"title": "renamed"}
+                        """))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchRejectsEndBeforeStoredStart() throws Exception {
+        Session user = register();
+        String taskId = createTask(user, "/api/v1/tasks/user/" + user.userId(), "ranged", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+
+        mockMvc.perform(as(user, patch("/api/v1/tasks/" + taskId)).content("""
+                        {"end": "2030-01-05T10:00:00"}
+                        """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("End date must be after or equal to start date"));
+
+        mockMvc.perform(as(user, get("/api/v1/tasks/user/" + user.userId())))
+                .andExpect(jsonPath("$[0].end").value("2030-01-20T10:00:00.000+00:00"));
+    }
+}
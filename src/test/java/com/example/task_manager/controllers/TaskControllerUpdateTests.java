@@ -0,0 +1,31 @@
+package com.example.task_manager.controllers;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerUpdateTests extends AbstractInMemoryApiTests {
+
+    @Test
+    void putKeepsTeamTaskInItsTeam() throws Exception {
+        Session owner = register();
+        String teamId = createTeam(owner);
+        String taskId = createTask(owner, "/api/v1/tasks/team/" + teamId, "original", "2030-01-10T10:00:00", "2030-01-20T10:00:00");
+
+        mockMvc.perform(as(owner, put("/api/v1/tasks/" + taskId)).content("""
+                        {"title": "renamed", "description": "description", "priority": "HIGH", "start": "2030-01-10T10:00:00", "end": "2030-01-25T10:00:00"}
+                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("renamed"));
+
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(taskId))
+                .andExpect(jsonPath("$[0].title").value("renamed"));
+    }
+}
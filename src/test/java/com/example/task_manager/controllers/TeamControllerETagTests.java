@@ -0,0 +1,56 @@
+package com.example.task_manager.controllers;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TeamControllerETagTests extends AbstractInMemoryApiTests {
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        Session owner = register();
+        createTeam(owner);
+        String eTag = eTagOf(owner);
+        assertNotNull(eTag);
+
+        mockMvc.perform(as(owner, get("/api/v1/teams/user/" + owner.userId())).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    // members leave a team when their account is deleted, which runs as a background job
+    @Test
+    void eTagChangesWhenAMemberIsRemoved() throws Exception {
+        Session owner = register();
+        Session member = register();
+        String teamId = createTeam(owner);
+        mockMvc.perform(as(owner, patch("/api/v1/teams/" + teamId + "/add-member")).content("""
+                        {"userId": "%s"}
+                        """.formatted(member.userId())))
+                .andExpect(status().is2xxSuccessful());
+        String before = eTagOf(owner);
+
+        mockMvc.perform(as(member, delete("/api/v1/users/" + member.userId())))
+                .andExpect(status().isAccepted());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (before.equals(eTagOf(owner)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        mockMvc.perform(as(owner, get("/api/v1/teams/user/" + owner.userId())).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].members.length()").value(1));
+    }
+
+    private String eTagOf(Session session) throws Exception {
+        return mockMvc.perform(as(session, get("/api/v1/teams/user/" + session.userId())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.task_manager.jobs;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.enums.DeletionResourceType;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.repositories.memory.InMemoryDeletionJobRepository;
+import com.example.task_manager.repositories.memory.InMemorySnapshot;
+import com.example.task_manager.utils.ExistenceCache;
+import com.example.task_manager.utils.TeamMembershipCache;
+import com.example.task_manager.utils.TaskCalendarCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeletionJobWorkerTests {
+    private static final String USER_ID = "64b7f0c2a1b2c3d4e5f60718";
+    private static final String TEAM_ID = "64b7f0c2a1b2c3d4e5f60720";
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private final InMemoryDeletionJobRepository deletionJobRepository =
+            new InMemoryDeletionJobRepository(new InMemorySnapshot(new ObjectMapper(), ""));
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TeamRepository teamRepository = mock(TeamRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeletionJobWorker worker = new DeletionJobWorker(
+            deletionJobRepository,
+            userRepository,
+            teamRepository,
+            taskRepository,
+            new ExistenceCache(10, Duration.ofMinutes(1)),
+            new ExistenceCache(10, Duration.ofMinutes(1)),
+            new TeamMembershipCache(10, Duration.ofMinutes(1)),
+            mock(TaskEventBroadcaster.class),
+            new TaskCalendarCache(10, Duration.ofMinutes(1)),
+            meterRegistry,
+            1,
+            2,
+            LEASE,
+            Duration.ZERO,
+            5
+    );
+
+    @AfterEach
+    void shutdown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void expiredJobResumesFromItsRecordedStep() throws InterruptedException {
+        Date expired = new Date(System.currentTimeMillis() - 1000);
+        DeletionJob job = deletionJobRepository.insert(DeletionJob.builder()
+                .resourceType(DeletionResourceType.USER)
+                .resourceId(USER_ID)
+                .status(DeletionJobStatus.RUNNING)
+                .step(DeletionJobStep.TEAM_MEMBERSHIPS)
+                .processed(7)
+                .attempts(1)
+                .leaseUntil(expired)
+                .createdAt(expired)
+                .modifiedAt(expired)
+                .build());
+        when(teamRepository.removeMemberFromAll(eq(USER_ID), any())).thenReturn(3L);
+
+        worker.submit(job.getId());
+        DeletionJob finished = awaitStatus(job.getId(), DeletionJobStatus.COMPLETED);
+
+        verify(taskRepository, never()).findIdsByAssignedUsersIdAndType(anyString(), any(TaskType.class), anyInt());
+        verify(teamRepository).removeMemberFromAll(eq(USER_ID), any());
+        verify(userRepository).deleteById(USER_ID);
+        assertEquals(DeletionJobStep.RESOURCE, finished.getStep());
+        assertEquals(10, finished.getProcessed());
+        assertEquals(2, finished.getAttempts());
+        assertEquals(1, meterRegistry.get("deletion.jobs.finished").tag("status", "COMPLETED").counter().count());
+    }
+
+    @Test
+    void workerThatLosesTheLeaseStopsWithoutTouchingTheJob() {
+        Date now = new Date();
+        DeletionJob job = deletionJobRepository.insert(DeletionJob.builder()
+                .resourceType(DeletionResourceType.TEAM)
+                .resourceId(TEAM_ID)
+                .status(DeletionJobStatus.PENDING)
+                .step(DeletionJobStep.TEAM_TASKS)
+                .createdAt(now)
+                .modifiedAt(now)
+                .build());
+        // another worker takes the job over while the first batch is being deleted
+        Date takeover = new Date(now.getTime() + LEASE.toMillis() * 2);
+        Date takeoverLease = new Date(takeover.getTime() + LEASE.toMillis());
+        when(taskRepository.findIdsByTeamId(TEAM_ID, 2)).thenAnswer(invocation -> {
+            deletionJobRepository.claim(job.getId(), takeover, takeoverLease);
+            return List.of("task-1", "task-2");
+        });
+
+        worker.submit(job.getId());
+
+        verify(taskRepository, after(500).times(1)).findIdsByTeamId(TEAM_ID, 2);
+        verify(teamRepository, never()).deleteById(TEAM_ID);
+        DeletionJob current = deletionJobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(DeletionJobStatus.RUNNING, current.getStatus());
+        assertEquals(takeoverLease, current.getLeaseUntil());
+        assertEquals(0, current.getProcessed());
+        assertEquals(2, current.getAttempts());
+    }
+
+    @Test
+    void failedJobClearsThePendingDeletionOfItsResource() throws InterruptedException {
+        Date now = new Date();
+        DeletionJob job = deletionJobRepository.insert(DeletionJob.builder()
+                .resourceType(DeletionResourceType.TEAM)
+                .resourceId(TEAM_ID)
+                .status(DeletionJobStatus.PENDING)
+                .step(DeletionJobStep.TEAM_TASKS)
+                .attempts(4)
+                .createdAt(now)
+                .modifiedAt(now)
+                .build());
+        when(taskRepository.findIdsByTeamId(TEAM_ID, 2)).thenThrow(new IllegalStateException("unavailable"));
+
+        worker.submit(job.getId());
+        DeletionJob failed = awaitStatus(job.getId(), DeletionJobStatus.FAILED);
+
+        assertEquals("unavailable", failed.getError());
+        verify(teamRepository, after(500)).clearPendingDeletion(eq(TEAM_ID), eq(job.getId()), any());
+        verify(teamRepository, never()).deleteById(TEAM_ID);
+    }
+
+    private DeletionJob awaitStatus(String jobId, DeletionJobStatus status) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            DeletionJob job = deletionJobRepository.findById(jobId).orElseThrow();
+            if (job.getStatus() == status) {
+                return job;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("Deletion job stayed " + job.getStatus());
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.task_manager.monitoring;
+
+import com.example.task_manager.AbstractMongoIntegrationTests;
+import com.example.task_manager.ApiTestSupport;
+import com.example.task_manager.utils.ExistenceCache;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// the test properties fail requests over budget, so every @QueryBudget endpoint has to answer
+// successfully here against real Mongo to stay within its declared number of queries
+@AutoConfigureMockMvc
+class QueryBudgetEndpointTests extends AbstractMongoIntegrationTests implements ApiTestSupport {
+    private static final String WINDOW = "from=2030-01-01T00:00:00&to=2030-02-01T00:00:00";
+
+    private static final String START = "2030-01-10T10:00:00";
+    private static final String END = "2030-01-20T10:00:00";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("userExistenceCache")
+    private ExistenceCache userExistenceCache;
+
+    @Override
+    public MockMvc mockMvc() {
+        return mockMvc;
+    }
+
+    @Test
+    void budgetedEndpointsStayWithinTheirBudget() throws Exception {
+        Session owner = register();
+        Session member = register();
+        String teamId = createTeam(owner);
+        mockMvc.perform(as(owner, patch("/api/v1/teams/" + teamId + "/add-member")).content("""
+                        {"userId": "%s"}
+                        """.formatted(member.userId())))
+                .andExpect(status().is2xxSuccessful());
+        createTask(owner, "/api/v1/tasks/user/" + owner.userId(), "task", START, END);
+        createTask(owner, "/api/v1/tasks/team/" + teamId, "task", START, END);
+
+        mockMvc.perform(as(owner, get("/api/v1/tasks/user/" + owner.userId()))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/user/" + owner.userId() + "/page"))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId + "/page"))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/search?teamId=" + teamId + "&q=task"))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/user/" + owner.userId() + "/calendar?" + WINDOW))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId + "/calendar?" + WINDOW))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/teams/user/" + owner.userId()))).andExpect(status().isOk());
+
+        String jobId = JsonPath.read(mockMvc.perform(as(member, delete("/api/v1/users/" + member.userId())))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        mockMvc.perform(as(owner, get("/api/v1/deletion-jobs/" + jobId))).andExpect(status().isOk());
+    }
+
+    // registering warms the existence cache, which would hide the user lookup from the count
+    @Test
+    void deleteUserStaysWithinItsBudgetOnAColdCache() throws Exception {
+        Session user = register();
+        userExistenceCache.invalidate(user.userId());
+
+        mockMvc.perform(as(user, delete("/api/v1/users/" + user.userId()))).andExpect(status().isAccepted());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.task_manager.monitoring;
+
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// the test properties fail requests over budget; the in-memory profile issues no Mongo queries of its own,
+// so only the counts below are seen
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class QueryBudgetHandlerAdapterTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void overrunFailsBeforeTheBodyIsWritten() throws Exception {
+        mockMvc.perform(get("/budgeted/over"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("Internal server error"))
+                .andExpect(content().string(not(containsString("partial"))));
+    }
+
+    @Test
+    void overrunFailsResponsesWithoutABody() throws Exception {
+        mockMvc.perform(delete("/budgeted/over"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("Internal server error"));
+    }
+
+    @Test
+    void queriesBeforeTheHandlerDoNotCountAgainstItsBudget() throws Exception {
+        mockMvc.perform(get("/budgeted/within"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result").value("complete"));
+        mockMvc.perform(delete("/budgeted/within"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void overrunIsOnlyReportedWhenNotFailing() {
+        assertEquals(handlerTypes(new RequestMappingHandlerAdapter()), handlerTypes(new QueryBudgetHandlerAdapter(false)));
+    }
+
+    private static List<Class<?>> handlerTypes(RequestMappingHandlerAdapter adapter) {
+        StaticWebApplicationContext context = new StaticWebApplicationContext();
+        context.refresh();
+        adapter.setApplicationContext(context);
+        adapter.afterPropertiesSet();
+        return adapter.getReturnValueHandlers().stream().<Class<?>>map(HandlerMethodReturnValueHandler::getClass).toList();
+    }
+
+    @RestController
+    static class BudgetedController {
+        @QueryBudget(1)
+        @GetMapping("/budgeted/over")
+        Map<String, String> over() {
+            QueryCounter.increment();
+            QueryCounter.increment();
+            return Map.of("result", "partial");
+        }
+
+        @QueryBudget(1)
+        @DeleteMapping("/budgeted/over")
+        ResponseEntity<Void> deleteOver() {
+            QueryCounter.increment();
+            QueryCounter.increment();
+            return ResponseEntity.noContent().build();
+        }
+
+        @QueryBudget(2)
+        @GetMapping("/budgeted/within")
+        Map<String, String> within() {
+            QueryCounter.increment();
+            QueryCounter.increment();
+            return Map.of("result", "complete");
+        }
+
+        @QueryBudget(2)
+        @DeleteMapping("/budgeted/within")
+        ResponseEntity<Void> deleteWithin() {
+            QueryCounter.increment();
+            QueryCounter.increment();
+            return ResponseEntity.noContent().build();
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class BudgetedConfiguration {
+        @Bean
+        BudgetedController budgetedController() {
+            return new BudgetedController();
+        }
+
+        // stands in for the authorization checks that run between the budget filter and the handler
+        @Bean
+        FilterRegistrationBean<Filter> queryingFilter() {
+            FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+                QueryCounter.increment();
+                QueryCounter.increment();
+                QueryCounter.increment();
+                chain.doFilter(request, response);
+            });
+            registration.addUrlPatterns("/budgeted/*");
+            return registration;
+        }
+    }
+}
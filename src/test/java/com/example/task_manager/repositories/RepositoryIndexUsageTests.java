@@ -0,0 +1,218 @@
+package com.example.task_manager.repositories;
+
+import com.example.task_manager.AbstractMongoIntegrationTests;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskSortField;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.utils.PageCursor;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RepositoryIndexUsageTests extends AbstractMongoIntegrationTests {
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "count", "delete");
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private RecordingCommandListener commandListener;
+
+    @Test
+    void derivedQueriesDoNotScanCollections() throws Exception {
+        Map<Class<?>, Object> repositories = Map.of(
+                TaskRepository.class, taskRepository,
+                TeamRepository.class, teamRepository,
+                UserRepository.class, userRepository
+        );
+
+        List<String> collScans = new ArrayList<>();
+        for (Map.Entry<Class<?>, Object> repository : repositories.entrySet()) {
+            for (Method method : repository.getKey().getDeclaredMethods()) {
+                commandListener.commands.clear();
+                method.invoke(repository.getValue(), sampleArguments(method));
+
+                List<BsonDocument> commands = commandListener.commands.stream()
+                        .filter(command -> QUERY_COMMANDS.contains(command.getFirstKey()))
+                        .toList();
+                assertFalse(commands.isEmpty(), "No query captured for " + method.getName());
+
+                for (BsonDocument command : commands) {
+                    if (usesCollectionScan(command)) {
+                        collScans.add(repository.getKey().getSimpleName() + "." + method.getName());
+                    }
+                }
+            }
+        }
+
+        assertEquals(List.of(), collScans, "Derived queries falling back to COLLSCAN");
+    }
+
+    @Test
+    void searchShapesDoNotScanCollections() {
+        List<String> collScans = new ArrayList<>();
+        for (TaskSearchQuery query : searchShapes()) {
+            commandListener.commands.clear();
+            taskRepository.search(query);
+
+            List<BsonDocument> commands = commandListener.commands.stream()
+                    .filter(command -> command.getFirstKey().equals("find"))
+                    .toList();
+            assertFalse(commands.isEmpty(), "No query captured for " + query);
+
+            for (BsonDocument command : commands) {
+                if (usesCollectionScan(command)) {
+                    collScans.add(command.getDocument("filter").toJson() + " sorted by " + command.get("sort"));
+                }
+            }
+        }
+
+        assertEquals(List.of(), collScans, "Search shapes falling back to COLLSCAN");
+    }
+
+    private List<TaskSearchQuery> searchShapes() {
+        String teamId = new ObjectId().toHexString();
+        String userId = new ObjectId().toHexString();
+        Date now = new Date();
+        List<TaskSearchQuery> shapes = new ArrayList<>();
+        for (String[] scope : new String[][]{{teamId, null}, {null, userId}, {teamId, userId}}) {
+            for (List<TaskType> types : List.of(List.of(TaskType.TEAM), List.of(TaskType.values()))) {
+                for (String text : Arrays.asList(null, "release notes")) {
+                    for (boolean filtered : List.of(false, true)) {
+                        for (boolean ranged : List.of(false, true)) {
+                            for (TaskSortField sort : TaskSortField.values()) {
+                                for (Sort.Direction direction : Sort.Direction.values()) {
+                                    for (boolean paged : List.of(false, true)) {
+                                        shapes.add(TaskSearchQuery.builder()
+                                                .teamId(scope[0])
+                                                .assigneeId(scope[1])
+                                                .types(types)
+                                                .text(text)
+                                                .statuses(filtered ? List.of(TaskStatus.NEW, TaskStatus.IN_PROGRESS) : null)
+                                                .priorities(filtered ? List.of(TaskPriority.HIGH) : null)
+                                                .startFrom(ranged ? now : null)
+                                                .endTo(ranged ? new Date(now.getTime() + 86_400_000L) : null)
+                                                .sort(sort)
+                                                .direction(direction)
+                                                .after(paged ? new PageCursor.Position(now, new ObjectId().toHexString()) : null)
+                                                .limit(51)
+                                                .build());
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return shapes;
+    }
+
+    private boolean usesCollectionScan(BsonDocument command) {
+        String name = command.getFirstKey();
+        String collection = command.getString(name).getValue();
+        Document filter = switch (name) {
+            case "delete" -> toDocument(command.getArray("deletes").get(0).asDocument().getDocument("q"));
+            case "count" -> toDocument(command.getDocument("query", new BsonDocument()));
+            default -> toDocument(command.getDocument("filter", new BsonDocument()));
+        };
+
+        Document find = new Document("find", collection).append("filter", filter);
+        if (command.containsKey("sort")) {
+            find.append("sort", toDocument(command.getDocument("sort")));
+        }
+
+        Document explain = mongoTemplate.getDb().runCommand(new Document()
+                .append("explain", find)
+                .append("verbosity", "queryPlanner"));
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        return containsStage(queryPlanner.get("winningPlan"), "COLLSCAN");
+    }
+
+    private boolean containsStage(Object plan, String stage) {
+        if (plan instanceof Document document) {
+            if (stage.equals(document.get("stage"))) {
+                return true;
+            }
+            return document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (plan instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+
+    private Object[] sampleArguments(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == String.class) {
+                arguments[i] = new ObjectId().toHexString();
+            } else if (types[i] == TaskType.class) {
+                arguments[i] = TaskType.TEAM;
+            } else if (types[i] == Limit.class) {
+                arguments[i] = Limit.of(10);
+            } else if (Collection.class.isAssignableFrom(types[i])) {
+                arguments[i] = List.of(new ObjectId().toHexString(), new ObjectId().toHexString());
+            } else {
+                throw new IllegalArgumentException("No sample value for " + types[i] + " in " + method.getName());
+            }
+        }
+        return arguments;
+    }
+
+    private static Document toDocument(BsonDocument document) {
+        return Document.parse(document.toJson());
+    }
+
+    static class RecordingCommandListener implements CommandListener {
+        private final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            commands.add(event.getCommand().clone());
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class CommandRecordingConfiguration {
+        @Bean
+        RecordingCommandListener recordingCommandListener() {
+            return new RecordingCommandListener();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer recordingCommandListenerCustomizer(RecordingCommandListener listener) {
+            return builder -> builder.addCommandListener(listener);
+        }
+    }
+}
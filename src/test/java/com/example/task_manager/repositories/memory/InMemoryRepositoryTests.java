@@ -0,0 +1,174 @@
+package com.example.task_manager.repositories.memory;
+
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.TaskPriority;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRepositoryTests {
+    private final InMemoryTaskRepository taskRepository = new InMemoryTaskRepository(new InMemorySnapshot(new ObjectMapper(), ""));
+
+    @Test
+    void sortsByPropertyWithNullsFirstAndTheIdAsTieBreaker() {
+        taskRepository.save(task("b", "Write docs", TaskPriority.LOW, "team", 30));
+        taskRepository.save(task("a", "Review", TaskPriority.HIGH, "team", 10));
+        taskRepository.save(task("c", "release", TaskPriority.HIGH, "team", null));
+        taskRepository.save(task("d", "Plan", TaskPriority.LOW, "team", 20));
+
+        assertEquals(List.of("c", "a", "d", "b"), ids(taskRepository.findAll(Sort.by("start"))));
+        assertEquals(List.of("b", "d", "a", "c"), ids(taskRepository.findAll(Sort.by(Sort.Direction.DESC, "start"))));
+        // enums sort by name as Mongo stores them, ties fall back to the id
+        assertEquals(List.of("a", "c", "b", "d"), ids(taskRepository.findAll(Sort.by("priority"))));
+        assertEquals(List.of("d", "c", "a", "b"), ids(taskRepository.findAll(Sort.by(Sort.Order.asc("title").ignoreCase()))));
+
+        Page<Task> page = taskRepository.findAll(PageRequest.of(1, 2, Sort.by("start")));
+        assertEquals(List.of("d", "b"), ids(page.getContent()));
+        assertEquals(4, page.getTotalElements());
+    }
+
+    @Test
+    void queriesByExampleOverStoredDocuments() {
+        taskRepository.save(task("a", "Review", TaskPriority.HIGH, "team", 10));
+        taskRepository.save(task("b", "review notes", TaskPriority.LOW, "team", 20));
+        taskRepository.save(task("c", "Review", TaskPriority.HIGH, "other", 30));
+
+        Task byTeam = Task.builder().teamId("team").build();
+        assertEquals(List.of("a", "b"), ids(taskRepository.findAll(Example.of(byTeam), Sort.by("id"))));
+        assertEquals(2, taskRepository.count(Example.of(byTeam)));
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> taskRepository.findOne(Example.of(byTeam)));
+
+        Task byTitle = Task.builder().title("REVIEW").teamId("team").build();
+        ExampleMatcher startingIgnoringCase = ExampleMatcher.matching()
+                .withStringMatcher(ExampleMatcher.StringMatcher.STARTING)
+                .withIgnoreCase();
+        assertEquals(List.of("a", "b"), ids(taskRepository.findAll(Example.of(byTitle, startingIgnoringCase), Sort.by("id"))));
+        assertEquals("a", taskRepository.findOne(Example.of(Task.builder().title("Review").teamId("team").build())).orElseThrow().getId());
+
+        Task either = Task.builder().teamId("other").priority(TaskPriority.LOW).build();
+        Page<Task> page = taskRepository.findAll(Example.of(either, ExampleMatcher.matchingAny()), PageRequest.of(0, 1, Sort.by("id")));
+        assertEquals(List.of("b"), ids(page.getContent()));
+        assertEquals(2, page.getTotalElements());
+        assertFalse(taskRepository.exists(Example.of(Task.builder().teamId("missing").build())));
+    }
+
+    @Test
+    void fluentQueriesByExampleSortLimitAndProject() {
+        taskRepository.save(task("a", "Review", TaskPriority.HIGH, "team", 10));
+        taskRepository.save(task("b", "review notes", TaskPriority.LOW, "team", 30));
+        taskRepository.save(task("c", "Plan", TaskPriority.HIGH, "team", 20));
+        taskRepository.save(task("d", "Review", TaskPriority.HIGH, "other", 40));
+        Example<Task> byTeam = Example.of(Task.builder().teamId("team").build());
+
+        assertEquals(List.of("b", "c"), ids(taskRepository.findBy(byTeam, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "start"))
+                .limit(2)
+                .all())));
+        assertEquals("a", taskRepository.findBy(byTeam, query -> query.sortBy(Sort.by("start")).firstValue()).getId());
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> taskRepository.findBy(byTeam, query -> query.one()));
+        long count = taskRepository.findBy(byTeam, query -> query.count());
+        boolean exists = taskRepository.findBy(Example.of(Task.builder().teamId("missing").build()), query -> query.exists());
+        assertEquals(3, count);
+        assertFalse(exists);
+
+        Page<Task> page = taskRepository.findBy(byTeam, query -> query.page(PageRequest.of(1, 2, Sort.by("start"))));
+        assertEquals(List.of("b"), ids(page.getContent()));
+        assertEquals(3, page.getTotalElements());
+
+        Task projected = taskRepository.findBy(byTeam, query -> query.sortBy(Sort.by("id")).project("title").firstValue());
+        assertEquals("a", projected.getId());
+        assertEquals("Review", projected.getTitle());
+        assertNull(projected.getTeamId());
+
+        List<TitleOnly> titles = taskRepository.findBy(byTeam, query -> query.sortBy(Sort.by("id")).as(TitleOnly.class).all());
+        assertEquals(List.of("Review", "review notes", "Plan"), titles.stream().map(TitleOnly::getTitle).toList());
+    }
+
+    interface TitleOnly {
+        String getTitle();
+    }
+
+    @Test
+    void journalIsReplayedIntoEveryCollectionAfterConcurrentWrites(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("snapshot.ndjson");
+        InMemorySnapshot snapshot = new InMemorySnapshot(new ObjectMapper(), file.toString());
+        InMemoryTaskRepository tasks = new InMemoryTaskRepository(snapshot);
+        InMemoryDeletionJobRepository jobs = new InMemoryDeletionJobRepository(snapshot);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String id = "task-" + i;
+                writes.add(executor.submit(() -> {
+                    tasks.save(task(id, "title", TaskPriority.LOW, "team", 10));
+                    tasks.save(task(id, "renamed", TaskPriority.HIGH, "team", 10));
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        tasks.deleteById("task-0");
+        jobs.save(DeletionJob.builder().id("job").status(DeletionJobStatus.PENDING).attempts(2).build());
+
+        // every write returned after its batch was flushed, so a fresh replay sees all of them without compaction
+        assertEquals(802, Files.readAllLines(file).size());
+        assertReplayed(file);
+
+        snapshot.compact();
+        assertEquals(400, Files.readAllLines(file).size());
+        assertReplayed(file);
+    }
+
+    private static void assertReplayed(Path file) {
+        InMemorySnapshot snapshot = new InMemorySnapshot(new ObjectMapper(), file.toString());
+        InMemoryTaskRepository tasks = new InMemoryTaskRepository(snapshot);
+        InMemoryDeletionJobRepository jobs = new InMemoryDeletionJobRepository(snapshot);
+        snapshot.afterSingletonsInstantiated();
+
+        assertEquals(399, tasks.count());
+        assertFalse(tasks.existsById("task-0"));
+        assertTrue(tasks.findAll().stream().allMatch(task -> "renamed".equals(task.getTitle())));
+        assertEquals(2, jobs.findById("job").orElseThrow().getAttempts());
+    }
+
+    private static Task task(String id, String title, TaskPriority priority, String teamId, Integer startDay) {
+        return Task.builder()
+                .id(id)
+                .title(title)
+                .priority(priority)
+                .teamId(teamId)
+                .start(startDay == null ? null : new Date(startDay * 86_400_000L))
+                .build();
+    }
+
+    private static List<String> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.AbstractInMemoryApiTests;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AccessPolicyTests extends AbstractInMemoryApiTests {
+    private static final String START = "2030-01-10T10:00:00";
+    private static final String END = "2030-01-20T10:00:00";
+
+    @Test
+    void usersCannotActOnOtherUsers() throws Exception {
+        Session user = register();
+        Session other = register();
+
+        mockMvc.perform(as(user, delete("/api/v1/users/" + other.userId()))).andExpect(status().isForbidden());
+        mockMvc.perform(as(user, put("/api/v1/users/" + other.userId() + "/password")).content("{}"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(as(user, get("/api/v1/tasks/user/" + other.userId()))).andExpect(status().isForbidden());
+        mockMvc.perform(as(user, get("/api/v1/teams/user/" + other.userId()))).andExpect(status().isForbidden());
+        mockMvc.perform(as(user, get("/api/v1/tasks/user/" + user.userId()))).andExpect(status().isOk());
+        mockMvc.perform(as(user, get("/api/v1/teams/user/" + user.userId()))).andExpect(status().isOk());
+    }
+
+    @Test
+    void teamRoutesAreForMembersOnly() throws Exception {
+        Session owner = register();
+        Session outsider = register();
+        String teamId = createTeam(owner);
+
+        mockMvc.perform(as(outsider, get("/api/v1/tasks/team/" + teamId + "/events"))).andExpect(status().isForbidden());
+        mockMvc.perform(as(outsider, get("/api/v1/tasks/team/" + teamId))).andExpect(status().isForbidden());
+        mockMvc.perform(as(outsider, patch("/api/v1/teams/" + teamId + "/add-member")).content("""
+                {"userId": "%s"}
+                """.formatted(outsider.userId()))).andExpect(status().isForbidden());
+        mockMvc.perform(as(outsider, delete("/api/v1/teams/" + teamId))).andExpect(status().isForbidden());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId))).andExpect(status().isOk());
+    }
+
+    @Test
+    void teamsCanOnlyBeCreatedForTheAuthenticatedUser() throws Exception {
+        Session user = register();
+        Session other = register();
+
+        mockMvc.perform(as(user, post("/api/v1/teams")).content("""
+                {"name": "team", "ownerId": "%s"}
+                """.formatted(other.userId()))).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void membershipIsDroppedWhenTheTeamIsDeleted() throws Exception {
+        Session owner = register();
+        String teamId = createTeam(owner);
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId))).andExpect(status().isOk());
+
+        mockMvc.perform(as(owner, delete("/api/v1/teams/" + teamId))).andExpect(status().isAccepted());
+
+        mockMvc.perform(as(owner, get("/api/v1/tasks/team/" + teamId))).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void taskRoutesAreForTheTaskOwners() throws Exception {
+        Session owner = register();
+        Session outsider = register();
+        String teamId = createTeam(owner);
+        String personalTaskId = createTask(owner, "/api/v1/tasks/user/" + owner.userId(), "personal", START, END);
+        String teamTaskId = createTask(owner, "/api/v1/tasks/team/" + teamId, "team", START, END);
+        String update = """
+                {"title": "taken", "description": "description", "priority": "HIGH", "start": "%s", "end": "%s"}
+                """.formatted(START, END);
+        String assignment = """
+                {"userId": "%s"}
+                """.formatted(outsider.userId());
+
+        for (String taskId : new String[]{personalTaskId, teamTaskId}) {
+            mockMvc.perform(as(outsider, put("/api/v1/tasks/" + taskId)).content(update)).andExpect(status().isForbidden());
+            mockMvc.perform(as(outsider, patch("/api/v1/tasks/" + taskId)).content("{\"title\": \"taken\"}"))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(as(outsider, patch("/api/v1/tasks/" + taskId + "/assign")).content(assignment))
+                    .andExpect(status().isForbidden());
+            mockMvc.perform(as(outsider, patch("/api/v1/tasks/" + taskId + "/unassign")).content(assignment))
+                    .andExpect(status().isForbidden());
+        }
+        mockMvc.perform(as(outsider, delete("/api/v1/tasks/" + personalTaskId))).andExpect(status().isForbidden());
+
+        mockMvc.perform(as(owner, put("/api/v1/tasks/" + teamTaskId)).content(update)).andExpect(status().isOk());
+        mockMvc.perform(as(owner, delete("/api/v1/tasks/" + personalTaskId))).andExpect(status().isOk());
+    }
+
+    @Test
+    void searchIsScopedToTheCaller() throws Exception {
+        Session owner = register();
+        Session outsider = register();
+        String teamId = createTeam(owner);
+
+        mockMvc.perform(as(outsider, get("/api/v1/tasks/search?teamId=" + teamId))).andExpect(status().isForbidden());
+        mockMvc.perform(as(outsider, get("/api/v1/tasks/search?assigneeId=" + owner.userId()))).andExpect(status().isForbidden());
+        mockMvc.perform(as(outsider, get("/api/v1/tasks/search?assigneeId=" + outsider.userId()))).andExpect(status().isOk());
+        mockMvc.perform(as(owner, get("/api/v1/tasks/search?teamId=" + teamId))).andExpect(status().isOk());
+    }
+
+    @Test
+    void deletionJobsAreForTheirRequester() throws Exception {
+        Session owner = register();
+        Session outsider = register();
+        String teamId = createTeam(owner);
+        String jobId = JsonPath.read(mockMvc.perform(as(owner, delete("/api/v1/teams/" + teamId)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(as(outsider, get("/api/v1/deletion-jobs/" + jobId))).andExpect(status().isForbidden());
+        mockMvc.perform(as(owner, get("/api/v1/deletion-jobs/" + jobId))).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.controllers.advice.GlobalExceptionHandler;
+import com.example.task_manager.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.function.DoubleSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void shutdown() {
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void calibrationNeverGoesBelowTheMinimumCost() {
+        assertEquals(10, PasswordHasher.calibrate(Duration.ofNanos(1), cost -> 1_000_000L));
+    }
+
+    @Test
+    void calibrationNeverGoesAboveTheMaximumCost() {
+        assertEquals(16, PasswordHasher.calibrate(Duration.ofHours(1), cost -> 1_000_000L));
+    }
+
+    @Test
+    void calibrationStopsBeforeTheNextCostWouldOvershootTheTarget() {
+        // 1ms at cost 10, doubling per step: cost 12 takes 4ms and cost 13 would take 8ms
+        assertEquals(12, PasswordHasher.calibrate(Duration.ofMillis(5), cost -> 1_000_000L << (cost - 10)));
+    }
+
+    @Test
+    void configuredCostIsCappedAtTheMaximum() {
+        hasher = hasher(20, 1, 1);
+
+        assertEquals(16, hasher.getCost());
+    }
+
+    @Test
+    void needsRehashWhenTheStoredCostDiffersOrTheHashIsNotBcrypt() {
+        hasher = hasher(4, 1, 1);
+        String hash = hasher.hash("password");
+
+        assertFalse(hasher.needsRehash(hash));
+        assertFalse(hasher.needsRehash(hash.replaceFirst("^\\$2a\\$", "\\$2y\\$")));
+        assertTrue(hasher.needsRehash(hash.replaceFirst("\\$04\\$", "\\$10\\$")));
+        assertTrue(hasher.needsRehash("password"));
+        assertTrue(hasher.verify("password", hash));
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "hash").timer().count());
+        assertEquals(1, meterRegistry.get("password.hashing").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    void fullQueueIsRejectedAsServiceUnavailable() throws InterruptedException {
+        // cost 14 keeps the single worker busy for long enough to fill the one-slot queue behind it
+        hasher = hasher(14, 1, 1);
+        startHashing();
+        awaitGauge("executor.active", () -> meterRegistry.get("executor.active").tag("name", "passwordHashing").gauge().value());
+        startHashing();
+        awaitGauge("executor.queued", () -> meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge().value());
+
+        PasswordHashingBusyException e = assertThrows(PasswordHashingBusyException.class, () -> hasher.hash("password"));
+
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+                new GlobalExceptionHandler().handlePasswordHashingBusyException(e).getStatusCode());
+    }
+
+    private PasswordHasher hasher(int cost, int threads, int queueCapacity) {
+        return new PasswordHasher(meterRegistry, cost, Duration.ofMillis(250), threads, queueCapacity, Duration.ofSeconds(30));
+    }
+
+    private void startHashing() {
+        Thread thread = new Thread(() -> hasher.hash("password"));
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void awaitGauge(String name, DoubleSupplier value) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (value.getAsDouble() < 1) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError(name + " never reached 1");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.task_manager.security;
+
+import com.example.task_manager.utils.DateTimeUTC;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenServiceTests {
+    private static final String USER_ID = "64b7f0c2a1b2c3d4e5f60718";
+    private static final String OLD_KEY = secret('a');
+    private static final String NEW_KEY = secret('b');
+
+    @Test
+    void issuedTokenVerifiesWithItsClaims() {
+        TokenService tokenService = tokenService("old", Map.of("old", OLD_KEY));
+        Date issuedAt = DateTimeUTC.now();
+
+        TokenClaims claims = tokenService.verify(tokenService.issue(USER_ID, issuedAt)).orElseThrow();
+
+        assertEquals(USER_ID, claims.userId());
+        assertEquals(tokenService.expiresAt(issuedAt), claims.expiresAt());
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        TokenService tokenService = tokenService("old", Map.of("old", OLD_KEY));
+
+        String token = tokenService.issue(USER_ID, new Date(System.currentTimeMillis() - Duration.ofMinutes(16).toMillis()));
+
+        assertTrue(tokenService.verify(token).isEmpty());
+    }
+
+    @Test
+    void tokenSignedWithAnUnknownKeyIsRejected() {
+        String token = tokenService("old", Map.of("old", OLD_KEY)).issue(USER_ID, DateTimeUTC.now());
+
+        assertTrue(tokenService("new", Map.of("new", NEW_KEY)).verify(token).isEmpty());
+        assertTrue(tokenService("old", Map.of("old", NEW_KEY)).verify(token).isEmpty());
+    }
+
+    @Test
+    void tokenWithAnotherAlgorithmIsRejected() {
+        TokenService tokenService = tokenService("old", Map.of("old", OLD_KEY));
+        String[] parts = tokenService.issue(USER_ID, DateTimeUTC.now()).split("\\.");
+
+        for (String algorithm : new String[]{"none", "HS512", "RS256"}) {
+            Map<String, Object> header = new LinkedHashMap<>();
+            header.put("alg", algorithm);
+            header.put("typ", "JWT");
+            header.put("kid", "old");
+            String token = encode(header) + "." + parts[1] + "." + parts[2];
+
+            assertTrue(tokenService.verify(token).isEmpty(), algorithm);
+            assertTrue(tokenService.verify(encode(header) + "." + parts[1] + ".").isEmpty(), algorithm);
+        }
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        TokenService tokenService = tokenService("old", Map.of("old", OLD_KEY));
+        String[] parts = tokenService.issue(USER_ID, DateTimeUTC.now()).split("\\.");
+        String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace(USER_ID, "64b7f0c2a1b2c3d4e5f60799");
+
+        String token = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertTrue(tokenService.verify(token).isEmpty());
+    }
+
+    @Test
+    void rotatedKeysKeepAcceptingTokensOfTheRetiredKeyUntilItIsRemoved() {
+        String oldToken = tokenService("old", Map.of("old", OLD_KEY)).issue(USER_ID, DateTimeUTC.now());
+        TokenService rotated = tokenService("new", Map.of("old", OLD_KEY, "new", NEW_KEY));
+        TokenService retired = tokenService("new", Map.of("new", NEW_KEY));
+
+        String newToken = rotated.issue(USER_ID, DateTimeUTC.now());
+
+        assertTrue(rotated.verify(oldToken).isPresent());
+        assertTrue(retired.verify(newToken).isPresent());
+        assertTrue(retired.verify(oldToken).isEmpty());
+    }
+
+    @Test
+    void revokedTokenIsRejectedAndOthersAreNot() {
+        TokenService tokenService = tokenService("old", Map.of("old", OLD_KEY));
+        String revoked = tokenService.issue(USER_ID, DateTimeUTC.now());
+        String other = tokenService.issue(USER_ID, DateTimeUTC.now());
+
+        tokenService.revoke(tokenService.verify(revoked).orElseThrow());
+
+        assertTrue(tokenService.verify(revoked).isEmpty());
+        assertTrue(tokenService.verify(other).isPresent());
+    }
+
+    @Test
+    void revocationsAreNotEvictedBeforeTheTokenExpires() {
+        TokenService tokenService = tokenService("old", Map.of("old", OLD_KEY));
+        String revoked = tokenService.issue(USER_ID, DateTimeUTC.now());
+        tokenService.revoke(tokenService.verify(revoked).orElseThrow());
+
+        for (int i = 0; i < 20_000; i++) {
+            tokenService.revoke(new TokenClaims("token-" + i, USER_ID, DateTimeUTC.now(), tokenService.expiresAt(DateTimeUTC.now())));
+        }
+
+        assertTrue(tokenService.verify(revoked).isEmpty());
+    }
+
+    @Test
+    void activeKeyMustBeConfiguredAndLongEnough() {
+        assertThrows(IllegalStateException.class, () -> tokenService("missing", Map.of("old", OLD_KEY)));
+        assertThrows(IllegalStateException.class, () -> tokenService("short",
+                Map.of("short", Base64.getEncoder().encodeToString(new byte[16]))));
+    }
+
+    private static TokenService tokenService(String activeKeyId, Map<String, String> keys) {
+        AuthProperties properties = new AuthProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setKeys(new LinkedHashMap<>(keys));
+        return new TokenService(properties, new ObjectMapper());
+    }
+
+    private static String encode(Map<String, Object> json) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(new ObjectMapper().writeValueAsBytes(json));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.response.deletion.DeletionJobResponseDto;
+import com.example.task_manager.entities.DeletionJob;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.DeletionJobStatus;
+import com.example.task_manager.enums.DeletionJobStep;
+import com.example.task_manager.enums.DeletionResourceType;
+import com.example.task_manager.jobs.DeletionJobWorker;
+import com.example.task_manager.mappers.DeletionJobMapper;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.repositories.memory.InMemoryDeletionJobRepository;
+import com.example.task_manager.repositories.memory.InMemorySnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeletionJobServiceImplTests {
+    private static final String USER_ID = "64b7f0c2a1b2c3d4e5f60718";
+
+    private final InMemoryDeletionJobRepository deletionJobRepository =
+            new InMemoryDeletionJobRepository(new InMemorySnapshot(new ObjectMapper(), ""));
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DeletionJobWorker deletionJobWorker = mock(DeletionJobWorker.class);
+    private final DeletionJobServiceImpl deletionJobService = new DeletionJobServiceImpl(
+            deletionJobRepository,
+            userRepository,
+            mock(TeamRepository.class),
+            new DeletionJobMapper(),
+            deletionJobWorker,
+            Duration.ofMinutes(2)
+    );
+
+    @Test
+    void jobCannotBeClaimedUntilTheResourceIsMarked() {
+        when(userRepository.markPendingDeletion(eq(USER_ID), anyString(), any())).thenAnswer(invocation -> {
+            assertTrue(deletionJobRepository.claimNext(new Date(), new Date()).isEmpty());
+            return true;
+        });
+
+        DeletionJobResponseDto scheduled = deletionJobService.schedule(DeletionResourceType.USER, USER_ID, USER_ID);
+
+        verify(deletionJobWorker).submit(scheduled.getId());
+        assertEquals(scheduled.getId(), deletionJobRepository.claimNext(new Date(), new Date()).orElseThrow().getId());
+    }
+
+    @Test
+    void alreadyPendingResourceDiscardsOnlyTheNewReservation() {
+        Date now = new Date();
+        DeletionJob running = deletionJobRepository.insert(DeletionJob.builder()
+                .resourceType(DeletionResourceType.USER)
+                .resourceId(USER_ID)
+                .status(DeletionJobStatus.RUNNING)
+                .step(DeletionJobStep.TASK_ASSIGNMENTS)
+                .leaseUntil(new Date(now.getTime() + 60_000))
+                .createdAt(now)
+                .modifiedAt(now)
+                .build());
+        when(userRepository.markPendingDeletion(eq(USER_ID), anyString(), any())).thenReturn(false);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder()
+                .id(USER_ID)
+                .deletionJobId(running.getId())
+                .build()));
+
+        DeletionJobResponseDto scheduled = deletionJobService.schedule(DeletionResourceType.USER, USER_ID, USER_ID);
+
+        assertEquals(running.getId(), scheduled.getId());
+        assertEquals(DeletionJobStatus.RUNNING, scheduled.getStatus());
+        assertEquals(1, deletionJobRepository.count());
+        assertFalse(deletionJobRepository.findById(running.getId()).isEmpty());
+        verify(deletionJobWorker, never()).submit(anyString());
+    }
+}
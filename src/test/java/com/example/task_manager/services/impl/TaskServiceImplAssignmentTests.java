@@ -0,0 +1,104 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.AbstractMongoIntegrationTests;
+import com.example.task_manager.dtos.request.task.AssignUserRequestDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.services.ITaskService;
+import com.example.task_manager.utils.DateTimeUTC;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskServiceImplAssignmentTests extends AbstractMongoIntegrationTests {
+    private static final int USERS = 300;
+
+    @Autowired
+    private ITaskService taskService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+        teamRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void parallelAssignmentsAreNotLost() throws Exception {
+        List<String> userIds = userRepository.saveAll(IntStream.range(0, USERS)
+                        .mapToObj(i -> User.builder()
+                                .username("user" + i)
+                                .email("user" + i + "@example.com")
+                                .build())
+                        .toList())
+                .stream()
+                .map(User::getId)
+                .toList();
+        Team team = teamRepository.save(Team.builder()
+                .name("team")
+                .ownerId(userIds.get(0))
+                .membersId(new ArrayList<>(userIds))
+                .build());
+        Task task = taskRepository.save(Task.builder()
+                .title("task")
+                .description("description")
+                .type(TaskType.TEAM)
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.NEW)
+                .teamId(team.getId())
+                .assignedUsersId(new ArrayList<>())
+                .start(DateTimeUTC.now())
+                .end(DateTimeUTC.now())
+                .build());
+
+        List<Callable<Void>> assignments = new ArrayList<>();
+        for (String userId : userIds) {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                assignments.add(() -> {
+                    taskService.assignUserById(task.getId(), new AssignUserRequestDto(userId));
+                    return null;
+                });
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            for (Future<Void> future : executor.invokeAll(assignments)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> assigned = taskRepository.findById(task.getId()).orElseThrow().getAssignedUsersId();
+        assertEquals(USERS, assigned.size());
+        assertEquals(new HashSet<>(userIds), new HashSet<>(assigned));
+
+        taskService.unassignUserFromTaskById(task.getId(), new AssignUserRequestDto(userIds.get(0)));
+        assertEquals(USERS - 1, taskRepository.findById(task.getId()).orElseThrow().getAssignedUsersId().size());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.request.task.TaskRequestDto;
+import com.example.task_manager.dtos.response.task.TaskBatchErrorDto;
+import com.example.task_manager.dtos.response.task.TaskBatchResponseDto;
+import com.example.task_manager.dtos.response.task.TaskResponseDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.mappers.TaskMapper;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.services.ITeamService;
+import com.example.task_manager.services.IUserService;
+import com.example.task_manager.utils.TaskCalendarCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import jakarta.validation.Validation;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TaskServiceImplBatchTests {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskServiceImpl taskService = new TaskServiceImpl(
+            taskRepository,
+            mock(IUserService.class),
+            mock(ITeamService.class),
+            new TaskMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(),
+            mock(TaskEventBroadcaster.class),
+            new TaskCalendarCache(10, Duration.ofMinutes(1)),
+            1000,
+            1000,
+            16384
+    );
+
+    @Test
+    void bulkWriteErrorsAreReportedAtTheirRequestIndex() {
+        // the invalid request at index 1 never reaches the bulk insert, so insert position 1 is request 2
+        List<TaskRequestDto> requests = Arrays.asList(task("first"), task(null), task("duplicate"), task("last"));
+        doThrow(bulkFailure(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1)))
+                .when(taskRepository).insertUnordered(anyList());
+
+        TaskBatchResponseDto response = taskService.createUserTasks("64b7f0c2a1b2c3d4e5f60718", requests);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).insertUnordered(inserted.capture());
+        assertEquals(List.of("first", "duplicate", "last"), inserted.getValue().stream().map(Task::getTitle).toList());
+
+        assertEquals(List.of("first", "last"), response.getCreated().stream().map(TaskResponseDto::getTitle).toList());
+        assertEquals(List.of(1, 2), response.getErrors().stream().map(TaskBatchErrorDto::getIndex).toList());
+        assertEquals(List.of("Title is required"), response.getErrors().get(0).getMessages());
+        assertEquals(List.of("E11000 duplicate key error"), response.getErrors().get(1).getMessages());
+    }
+
+    @Test
+    void nullEntriesAreRejectedWithoutReachingTheDatabase() {
+        TaskBatchResponseDto response = taskService.createUserTasks("64b7f0c2a1b2c3d4e5f60718", Arrays.asList(null, task("only")));
+
+        assertEquals(List.of("only"), response.getCreated().stream().map(TaskResponseDto::getTitle).toList());
+        assertEquals(List.of(0), response.getErrors().stream().map(TaskBatchErrorDto::getIndex).toList());
+        assertEquals(List.of("Task is required"), response.getErrors().get(0).getMessages());
+    }
+
+    private static TaskRequestDto task(String title) {
+        Date start = new Date(System.currentTimeMillis() + DAY_MILLIS);
+        return TaskRequestDto.builder()
+                .title(title)
+                .description("description")
+                .priority(TaskPriority.LOW)
+                .start(start)
+                .end(new Date(start.getTime() + DAY_MILLIS))
+                .build();
+    }
+
+    private static BulkOperationException bulkFailure(BulkWriteError error) {
+        return new BulkOperationException("Bulk write failed", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import com.example.task_manager.dtos.response.task.TaskEventDto;
+import com.example.task_manager.dtos.response.task.TaskImportErrorDto;
+import com.example.task_manager.dtos.response.task.TaskImportResponseDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.enums.TaskEventType;
+import com.example.task_manager.enums.TaskFileFormat;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.mappers.TaskMapper;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.services.ITeamService;
+import com.example.task_manager.services.IUserService;
+import com.example.task_manager.utils.TaskCalendarCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TaskServiceImplImportTests {
+    private static final String USER_ID = "64b7f0c2a1b2c3d4e5f60718";
+    private static final String CSV_HEADER = "title,description,priority,start,end\n";
+    private static final String CSV_ROW = "%s,description,LOW,2030-01-10T10:00:00,2030-01-20T10:00:00\n";
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskEventBroadcaster taskEventBroadcaster = mock(TaskEventBroadcaster.class);
+    private final TaskCalendarCache taskCalendarCache = new TaskCalendarCache(10, Duration.ofMinutes(1));
+    private final TaskServiceImpl taskService = new TaskServiceImpl(
+            taskRepository,
+            mock(IUserService.class),
+            mock(ITeamService.class),
+            new TaskMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(),
+            taskEventBroadcaster,
+            taskCalendarCache,
+            2,
+            1000,
+            16384
+    );
+
+    @Test
+    void malformedRecordStopsTheImportAndKeepsTheCommittedBatches() {
+        String csv = CSV_HEADER + CSV_ROW.formatted("a") + CSV_ROW.formatted("b") + CSV_ROW.formatted("c")
+                + "\"unterminated,description,LOW,2030-01-10T10:00:00,2030-01-20T10:00:00\n";
+
+        TaskImportResponseDto response = taskService.importUserTasks(USER_ID, TaskFileFormat.CSV, stream(csv));
+
+        verify(taskRepository, times(2)).insertUnordered(anyList());
+        assertEquals(3, response.getInserted());
+        assertEquals(1, response.getRejected());
+        assertEquals(List.of(5L), response.getErrors().stream().map(TaskImportErrorDto::getLine).toList());
+        assertEquals(List.of("Unterminated quoted field at line 5"), response.getErrors().get(0).getMessages());
+    }
+
+    @Test
+    void readFailureStopsTheImportAndKeepsTheReadRows() {
+        InputStream body = new SequenceInputStream(stream(CSV_HEADER + CSV_ROW.formatted("a")), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+
+        TaskImportResponseDto response = taskService.importUserTasks(USER_ID, TaskFileFormat.CSV, body);
+
+        assertEquals(1, response.getInserted());
+        assertEquals(1, response.getRejected());
+        assertEquals(List.of("Unable to read the import body"), response.getErrors().get(0).getMessages());
+    }
+
+    @Test
+    void ndjsonImportIgnoresGivenIds() {
+        String ndjson = """
+                {"id": "64b7f0c2a1b2c3d4e5f60799", "title": "a", "description": "description", "priority": "LOW", "start": "2030-01-10T10:00:00", "end": "2030-01-20T10:00:00"}
+                """;
+
+        // the batch list is reused after each flush, so the IDs are copied when the insert happens
+        List<String> insertedIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> insertedIds.add(task.getId()));
+            return null;
+        }).when(taskRepository).insertUnordered(anyList());
+
+        TaskImportResponseDto response = taskService.importUserTasks(USER_ID, TaskFileFormat.NDJSON, stream(ndjson));
+
+        assertEquals(1, response.getInserted());
+        assertEquals(1, insertedIds.size());
+        assertNull(insertedIds.get(0));
+    }
+
+    @Test
+    void failedImportStillRefreshesTheCalendarAndAnnouncesCommittedBatches() {
+        String teamId = "64b7f0c2a1b2c3d4e5f60720";
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Stream<TaskCalendarEntryDto>> loader = () -> {
+            loads.incrementAndGet();
+            return Stream.empty();
+        };
+        Date from = new Date(0);
+        taskCalendarCache.overlapping(TaskCalendarCache.Key.team(teamId), from, from, loader);
+        doNothing().doThrow(new DataAccessResourceFailureException("Connection lost"))
+                .when(taskRepository).insertUnordered(anyList());
+        String csv = CSV_HEADER + CSV_ROW.formatted("a") + CSV_ROW.formatted("b") + CSV_ROW.formatted("c");
+
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> taskService.importTeamTasks(teamId, TaskFileFormat.CSV, stream(csv)));
+
+        ArgumentCaptor<TaskEventDto> event = ArgumentCaptor.forClass(TaskEventDto.class);
+        verify(taskEventBroadcaster).publish(event.capture());
+        assertEquals(TaskEventType.BULK_CREATED, event.getValue().getType());
+        assertEquals(2L, event.getValue().getCount());
+        taskCalendarCache.overlapping(TaskCalendarCache.Key.team(teamId), from, from, loader);
+        assertEquals(2, loads.get());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.dtos.request.task.TaskSearchRequestDto;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.mappers.TaskMapper;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.services.ITeamService;
+import com.example.task_manager.services.IUserService;
+import com.example.task_manager.utils.TaskCalendarCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskServiceImplSearchTests {
+    private static final String CALLER_ID = "64b7f0c2a1b2c3d4e5f60718";
+    private static final String OTHER_USER_ID = "64b7f0c2a1b2c3d4e5f60719";
+    private static final String TEAM_ID = "64b7f0c2a1b2c3d4e5f60720";
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ITeamService teamService = mock(ITeamService.class);
+    private final TaskServiceImpl taskService = new TaskServiceImpl(
+            taskRepository,
+            mock(IUserService.class),
+            teamService,
+            new TaskMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ObjectMapper(),
+            mock(TaskEventBroadcaster.class),
+            new TaskCalendarCache(10, Duration.ofMinutes(1)),
+            2,
+            1000,
+            16384
+    );
+
+    @Test
+    void teamSearchRequiresTheCallerToBeAMember() {
+        TaskSearchRequestDto dto = new TaskSearchRequestDto();
+        dto.setTeamId(TEAM_ID);
+        dto.setAssigneeId(CALLER_ID);
+
+        assertThrows(AccessDeniedException.class, () -> taskService.searchTasks(dto, CALLER_ID));
+        verify(taskRepository, never()).search(any());
+
+        when(teamService.isTeamMember(TEAM_ID, CALLER_ID)).thenReturn(true);
+        when(taskRepository.search(any())).thenReturn(List.of());
+        taskService.searchTasks(dto, CALLER_ID);
+        verify(taskRepository).search(any());
+    }
+
+    @Test
+    void assigneeSearchIsLimitedToTheCaller() {
+        TaskSearchRequestDto dto = new TaskSearchRequestDto();
+        dto.setAssigneeId(OTHER_USER_ID);
+
+        assertThrows(AccessDeniedException.class, () -> taskService.searchTasks(dto, CALLER_ID));
+        verify(taskRepository, never()).search(any());
+
+        dto.setAssigneeId(CALLER_ID);
+        when(taskRepository.search(any())).thenReturn(List.of());
+        taskService.searchTasks(dto, CALLER_ID);
+        verify(taskRepository).search(any());
+    }
+}
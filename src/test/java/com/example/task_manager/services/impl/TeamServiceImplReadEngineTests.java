@@ -0,0 +1,126 @@
+package com.example.task_manager.services.impl;
+
+import com.example.task_manager.AbstractMongoIntegrationTests;
+import com.example.task_manager.dtos.response.team.TeamResponseDto;
+import com.example.task_manager.entities.Task;
+import com.example.task_manager.entities.Team;
+import com.example.task_manager.entities.User;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.enums.TaskType;
+import com.example.task_manager.enums.TeamReadEngine;
+import com.example.task_manager.events.TaskEventBroadcaster;
+import com.example.task_manager.mappers.TeamMapper;
+import com.example.task_manager.repositories.TaskRepository;
+import com.example.task_manager.repositories.TeamRepository;
+import com.example.task_manager.repositories.UserRepository;
+import com.example.task_manager.services.IDeletionJobService;
+import com.example.task_manager.services.ITaskService;
+import com.example.task_manager.services.IUserService;
+import com.example.task_manager.utils.DateTimeUTC;
+import com.example.task_manager.utils.ExistenceCache;
+import com.example.task_manager.utils.TeamMembershipCache;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class TeamServiceImplReadEngineTests extends AbstractMongoIntegrationTests {
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private IUserService userService;
+    @Autowired
+    private ITaskService taskService;
+    @Autowired
+    private TeamMapper teamMapper;
+    @Autowired
+    private TaskEventBroadcaster taskEventBroadcaster;
+    @Autowired
+    private IDeletionJobService deletionJobService;
+
+    @BeforeEach
+    void cleanUp() {
+        taskRepository.deleteAll();
+        teamRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void aggregationEngineReturnsSameTeamsAsQueryEngine() {
+        User owner = saveUser("owner");
+        User first = saveUser("first");
+        User second = saveUser("second");
+        String missingUserId = new ObjectId().toHexString();
+
+        Team team = saveTeam("alpha", owner.getId(),
+                List.of(second.getId(), owner.getId(), missingUserId, first.getId()));
+        Team emptyTeam = saveTeam("beta", owner.getId(), List.of(owner.getId()));
+        saveTeam("foreign", first.getId(), List.of(first.getId(), owner.getId()));
+
+        saveTask("team task 1", TaskType.TEAM, team.getId(), List.of(first.getId(), second.getId()));
+        saveTask("team task 2", TaskType.TEAM, team.getId(), List.of());
+        saveTask("personal task", TaskType.PERSONAL, null, List.of(owner.getId()));
+
+        List<TeamResponseDto> expected = serviceWith(TeamReadEngine.QUERY).getTeamsByUserId(owner.getId());
+        List<TeamResponseDto> actual = serviceWith(TeamReadEngine.AGGREGATION).getTeamsByUserId(owner.getId());
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+        assertEquals(List.of(team.getId(), emptyTeam.getId()),
+                actual.stream().map(TeamResponseDto::getId).toList());
+    }
+
+    private TeamServiceImpl serviceWith(TeamReadEngine engine) {
+        return new TeamServiceImpl(teamRepository, userService, taskService, teamMapper, engine, 0,
+                new ExistenceCache(100, Duration.ofMinutes(1)), new TeamMembershipCache(100, Duration.ofMinutes(1)),
+                new SimpleAsyncTaskExecutor(), taskEventBroadcaster, deletionJobService);
+    }
+
+    private User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .createdAt(DateTimeUTC.now())
+                .modifiedAt(DateTimeUTC.now())
+                .build());
+    }
+
+    private Team saveTeam(String name, String ownerId, List<String> membersId) {
+        return teamRepository.save(Team.builder()
+                .name(name)
+                .ownerId(ownerId)
+                .membersId(new ArrayList<>(membersId))
+                .createdAt(DateTimeUTC.now())
+                .modifiedAt(DateTimeUTC.now())
+                .build());
+    }
+
+    private void saveTask(String title, TaskType type, String teamId, List<String> assignedUsersId) {
+        taskRepository.save(Task.builder()
+                .title(title)
+                .description(title + " description")
+                .type(type)
+                .priority(TaskPriority.MEDIUM)
+                .status(TaskStatus.NEW)
+                .teamId(teamId)
+                .assignedUsersId(new ArrayList<>(assignedUsersId))
+                .start(DateTimeUTC.now())
+                .end(DateTimeUTC.now())
+                .createdAt(DateTimeUTC.now())
+                .modifiedAt(DateTimeUTC.now())
+                .build());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.task_manager.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExistenceCacheTests {
+    private static final String ID = "64b7f0c2a1b2c3d4e5f60718";
+
+    private final ExistenceCache cache = new ExistenceCache(10, Duration.ofMinutes(1));
+
+    @Test
+    void addKeepsAnIdNotInvalidatedSinceTheCheckStarted() {
+        long generation = cache.generation();
+
+        cache.add(ID, generation);
+
+        assertTrue(cache.contains(ID));
+    }
+
+    @Test
+    void addAfterAConcurrentInvalidationDoesNotCacheTheId() {
+        long generation = cache.generation();
+        // a delete marks the resource and invalidates it while the existence query is in flight
+        cache.invalidate(ID);
+
+        cache.add(ID, generation);
+
+        assertFalse(cache.contains(ID));
+    }
+
+    @Test
+    void invalidationAfterTheAddRemovesTheId() {
+        cache.add(ID, cache.generation());
+
+        cache.invalidate(ID);
+
+        assertFalse(cache.contains(ID));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.task_manager.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntervalTreeTests {
+
+    @Test
+    void windowBoundariesAreInclusive() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put("ends-at-from", 0, 10, "ends-at-from");
+        tree.put("starts-at-to", 20, 30, "starts-at-to");
+        tree.put("ends-before", 0, 9, "ends-before");
+        tree.put("starts-after", 21, 30, "starts-after");
+        tree.put("covers", 5, 25, "covers");
+
+        assertEquals(List.of("ends-at-from", "covers", "starts-at-to"), tree.overlapping(10, 20));
+    }
+
+    @Test
+    void pointIntervalsAndPointWindowsOverlap() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put("point", 15, 15, "point");
+
+        assertEquals(List.of("point"), tree.overlapping(15, 15));
+        assertEquals(List.of(), tree.overlapping(16, 16));
+    }
+
+    @Test
+    void putOfAnExistingIdReplacesItsInterval() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put("task", 0, 10, "old");
+        tree.put("task", 100, 110, "new");
+
+        assertEquals(1, tree.size());
+        assertEquals(List.of(), tree.overlapping(0, 10));
+        assertEquals(List.of("new"), tree.overlapping(105, 105));
+    }
+
+    @Test
+    void removeDropsOnlyThatId() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put("a", 0, 10, "a");
+        tree.put("b", 0, 10, "b");
+
+        assertTrue(tree.remove("a"));
+        assertFalse(tree.remove("a"));
+        assertFalse(tree.remove("missing"));
+        assertEquals(1, tree.size());
+        assertEquals(List.of("b"), tree.overlapping(0, 10));
+    }
+
+    @Test
+    void resultsComeOutByStartThenId() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.put("b", 5, 50, "b");
+        tree.put("a", 5, 6, "a");
+        tree.put("c", 1, 100, "c");
+
+        assertEquals(List.of("c", "a", "b"), tree.overlapping(0, 100));
+    }
+
+    @Test
+    void overlapMatchesALinearScanAfterRandomUpdates() {
+        Random random = new Random(7);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        long[][] intervals = new long[500][];
+        for (int round = 0; round < 5000; round++) {
+            int id = random.nextInt(intervals.length);
+            if (random.nextInt(4) == 0) {
+                tree.remove(String.valueOf(id));
+                intervals[id] = null;
+            } else {
+                long start = random.nextInt(10_000);
+                long end = start + random.nextInt(500);
+                tree.put(String.valueOf(id), start, end, id);
+                intervals[id] = new long[]{start, end};
+            }
+        }
+
+        for (int query = 0; query < 200; query++) {
+            long from = random.nextInt(10_500);
+            long to = from + random.nextInt(300);
+            List<Integer> expected = new ArrayList<>();
+            for (int id = 0; id < intervals.length; id++) {
+                if (intervals[id] != null && intervals[id][0] <= to && intervals[id][1] >= from) {
+                    expected.add(id);
+                }
+            }
+            List<Integer> actual = new ArrayList<>(tree.overlapping(from, to));
+            actual.sort(null);
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.dtos.response.task.TaskCalendarEntryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TaskCalendarCacheTests {
+    private static final TaskCalendarCache.Key KEY = TaskCalendarCache.Key.team("64b7f0c2a1b2c3d4e5f60720");
+
+    private final TaskCalendarCache cache = new TaskCalendarCache(10, Duration.ofMinutes(1));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void loadSkipsEntriesWithoutStartOrEnd() {
+        List<TaskCalendarEntryDto> entries = cache.overlapping(KEY, new Date(0), new Date(100), loader(
+                entry("dated", 10L, 20L), entry("no-start", null, 20L), entry("no-end", 10L, null)));
+
+        assertEquals(List.of("dated"), ids(entries));
+    }
+
+    @Test
+    void putWithoutStartOrEndRemovesTheCachedEntry() {
+        cache.overlapping(KEY, new Date(0), new Date(100), loader(entry("task", 10L, 20L)));
+
+        cache.put(KEY, entry("task", null, 20L));
+
+        assertEquals(List.of(), ids(cache.overlapping(KEY, new Date(0), new Date(100), loader())));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void putMovesTheEntryAndRemoveDropsIt() {
+        cache.overlapping(KEY, new Date(0), new Date(100), loader(entry("task", 10L, 20L)));
+
+        cache.put(KEY, entry("task", 50L, 60L));
+        assertEquals(List.of(), ids(cache.overlapping(KEY, new Date(0), new Date(20), loader())));
+        assertEquals(List.of("task"), ids(cache.overlapping(KEY, new Date(60), new Date(70), loader())));
+
+        cache.remove(KEY, "task");
+        assertEquals(List.of(), ids(cache.overlapping(KEY, new Date(0), new Date(100), loader())));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void writesToAnUnloadedCalendarDoNotLoadIt() {
+        cache.put(KEY, entry("task", 10L, 20L));
+
+        assertEquals(List.of(), ids(cache.overlapping(KEY, new Date(0), new Date(100), loader())));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void invalidateReloadsOnTheNextRead() {
+        cache.overlapping(KEY, new Date(0), new Date(100), loader(entry("old", 10L, 20L)));
+
+        cache.invalidate(KEY);
+
+        assertEquals(List.of("new"), ids(cache.overlapping(KEY, new Date(0), new Date(100), loader(entry("new", 10L, 20L)))));
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<Stream<TaskCalendarEntryDto>> loader(TaskCalendarEntryDto... entries) {
+        return () -> {
+            loads.incrementAndGet();
+            return Stream.of(entries);
+        };
+    }
+
+    private static TaskCalendarEntryDto entry(String id, Long start, Long end) {
+        return TaskCalendarEntryDto.builder()
+                .id(id)
+                .title(id)
+                .start(start == null ? null : new Date(start))
+                .end(end == null ? null : new Date(end))
+                .build();
+    }
+
+    private static List<String> ids(List<TaskCalendarEntryDto> entries) {
+        return entries.stream().map(TaskCalendarEntryDto::getId).toList();
+    }
+}
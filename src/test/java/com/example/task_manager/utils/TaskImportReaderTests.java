@@ -0,0 +1,137 @@
+package com.example.task_manager.utils;
+
+import com.example.task_manager.enums.TaskFileFormat;
+import com.example.task_manager.enums.TaskPriority;
+import com.example.task_manager.enums.TaskStatus;
+import com.example.task_manager.exceptions.InvalidImportFileException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskImportReaderTests {
+    private static final String HEADER = "title,description,priority,start,end\n";
+    private static final String DATES = "2030-01-10T10:00:00,2030-01-20T10:00:00";
+
+    @Test
+    void quotedFieldsKeepCommasAndEscapedQuotes() throws IOException {
+        List<TaskImportReader.Row> rows = readAll(TaskFileFormat.CSV,
+                HEADER + "\"Plan, then ship\",\"Say \"\"hi\"\"\",low," + DATES + "\n", 1024);
+
+        assertEquals(1, rows.size());
+        assertEquals("Plan, then ship", rows.get(0).task().getTitle());
+        assertEquals("Say \"hi\"", rows.get(0).task().getDescription());
+        assertEquals(TaskPriority.LOW, rows.get(0).task().getPriority());
+        assertEquals(Date.from(Instant.parse("2030-01-10T10:00:00Z")), rows.get(0).task().getStart());
+    }
+
+    @Test
+    void quotedLineBreaksStayInTheFieldAndCountAsLines() throws IOException {
+        List<TaskImportReader.Row> rows = readAll(TaskFileFormat.CSV,
+                HEADER + "first,\"line one\r\nline two\",LOW," + DATES + "\r\nsecond,description,HIGH," + DATES + "\r\n", 1024);
+
+        assertEquals(List.of(2L, 4L), rows.stream().map(TaskImportReader.Row::line).toList());
+        assertEquals("line one\nline two", rows.get(0).task().getDescription());
+        assertEquals("second", rows.get(1).task().getTitle());
+    }
+
+    @Test
+    void blankLinesAreSkipped() throws IOException {
+        List<TaskImportReader.Row> csv = readAll(TaskFileFormat.CSV,
+                HEADER + "\nfirst,description,LOW," + DATES + "\n\n", 1024);
+        List<TaskImportReader.Row> ndjson = readAll(TaskFileFormat.NDJSON,
+                "\n  \n{\"title\": \"first\"}\n\n", 1024);
+
+        assertEquals(List.of(3L), csv.stream().map(TaskImportReader.Row::line).toList());
+        assertEquals(List.of(3L), ndjson.stream().map(TaskImportReader.Row::line).toList());
+    }
+
+    @Test
+    void headerColumnsMatchInAnyOrderAndCase() throws IOException {
+        List<TaskImportReader.Row> rows = readAll(TaskFileFormat.CSV,
+                "End,Start,Status,Priority,Description,Title\n2030-01-20T10:00:00Z,2030-01-10T10:00:00,deferred,MEDIUM,description,title\n", 1024);
+
+        assertEquals("title", rows.get(0).task().getTitle());
+        assertEquals(TaskStatus.DEFERRED, rows.get(0).task().getStatus());
+        assertEquals(Date.from(Instant.parse("2030-01-20T10:00:00Z")), rows.get(0).task().getEnd());
+    }
+
+    @Test
+    void missingHeaderColumnFailsTheFile() {
+        InvalidImportFileException e = assertThrows(InvalidImportFileException.class,
+                () -> readAll(TaskFileFormat.CSV, "title,description,priority,start\n", 1024));
+
+        assertEquals("CSV header is missing column: end", e.getMessage());
+    }
+
+    @Test
+    void badEnumAndDateValuesRejectOnlyTheirRow() throws IOException {
+        List<TaskImportReader.Row> rows = readAll(TaskFileFormat.CSV, HEADER
+                + "first,description,URGENT," + DATES + "\n"
+                + "second,description,LOW,tomorrow,2030-01-20T10:00:00\n"
+                + "third,description,LOW," + DATES + "\n", 1024);
+
+        assertEquals("Invalid priority: URGENT", rows.get(0).error());
+        assertEquals("Invalid start date: tomorrow", rows.get(1).error());
+        assertNull(rows.get(2).error());
+        assertEquals("third", rows.get(2).task().getTitle());
+    }
+
+    @Test
+    void unterminatedQuoteFailsAtTheLastLine() {
+        InvalidImportFileException e = assertThrows(InvalidImportFileException.class,
+                () -> readAll(TaskFileFormat.CSV, HEADER + "\"open,description,LOW," + DATES + "\nmore\n", 1024));
+
+        assertEquals("Unterminated quoted field at line 3", e.getMessage());
+    }
+
+    @Test
+    void csvRecordLongerThanTheLimitFailsTheFile() {
+        InvalidImportFileException e = assertThrows(InvalidImportFileException.class,
+                () -> readAll(TaskFileFormat.CSV, HEADER + "\"open" + "\nx".repeat(100), 64));
+
+        assertEquals("Record at line 2 exceeds 64 characters", e.getMessage());
+    }
+
+    @Test
+    void ndjsonLineLongerThanTheLimitIsRejectedAndReadingContinues() throws IOException {
+        List<TaskImportReader.Row> rows = readAll(TaskFileFormat.NDJSON,
+                "{\"title\": \"" + "x".repeat(200) + "\"}\n{\"title\": \"short\"}\n", 64);
+
+        assertEquals("Line exceeds 64 characters", rows.get(0).error());
+        assertEquals(2L, rows.get(1).line());
+        assertEquals("short", rows.get(1).task().getTitle());
+    }
+
+    @Test
+    void ndjsonRowsNeverCarryAnId() throws IOException {
+        List<TaskImportReader.Row> rows = readAll(TaskFileFormat.NDJSON,
+                "{\"id\": \"64b7f0c2a1b2c3d4e5f60799\", \"title\": \"first\"}\nnot json", 1024);
+
+        assertNull(rows.get(0).task().getId());
+        assertEquals("Unable to parse JSON line", rows.get(1).error());
+    }
+
+    private static List<TaskImportReader.Row> readAll(TaskFileFormat format, String content, int maxRecordLength)
+            throws IOException {
+        List<TaskImportReader.Row> rows = new ArrayList<>();
+        try (TaskImportReader reader = new TaskImportReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, new ObjectMapper().reader(), maxRecordLength)) {
+            TaskImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}